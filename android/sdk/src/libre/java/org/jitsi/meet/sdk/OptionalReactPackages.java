@@ -1,5 +1,5 @@
 /*
- * Copyright @ 2017-present Atlassian Pty Ltd
+ * Copyright @ 2026-present 8x8, Inc.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,25 +17,17 @@
 package org.jitsi.meet.sdk;
 
 import com.facebook.react.ReactPackage;
-import com.facebook.react.bridge.NativeModule;
-import com.facebook.react.bridge.ReactApplicationContext;
-import com.facebook.react.uimanager.ViewManager;
 
 import java.util.Collections;
 import java.util.List;
 
-class ReactPackageAdapter
-    implements ReactPackage {
-
-    @Override
-    public List<NativeModule> createNativeModules(
-            ReactApplicationContext reactContext) {
-        return Collections.emptyList();
-    }
-
-    @Override
-    public List<ViewManager> createViewManagers(
-            ReactApplicationContext reactContext) {
+/**
+ * The React Native packages which are only part of the non-LIBRE_BUILD. This
+ * source set is selected at build time in {@code build.gradle} when
+ * LIBRE_BUILD is enabled, and none of those packages is compiled in.
+ */
+class OptionalReactPackages {
+    static List<ReactPackage> create() {
         return Collections.emptyList();
     }
 }
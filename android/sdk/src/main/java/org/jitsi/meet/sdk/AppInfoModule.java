@@ -33,6 +33,10 @@ import java.util.Map;
 class AppInfoModule
     extends ReactContextBaseJavaModule {
 
+    /**
+     * Looked up by name, rather than referenced, because this module is also
+     * built into the React Native SDK, whose BuildConfig is in another package.
+     */
     private static final String BUILD_CONFIG = "org.jitsi.meet.sdk.BuildConfig";
     public static final String NAME = "AppInfo";
     public static final boolean GOOGLE_SERVICES_ENABLED = getGoogleServicesEnabled();
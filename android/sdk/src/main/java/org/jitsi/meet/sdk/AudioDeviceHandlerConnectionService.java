@@ -18,14 +18,12 @@ package org.jitsi.meet.sdk;
 
 import android.content.Context;
 import android.media.AudioManager;
+import android.os.SystemClock;
 import android.telecom.CallAudioState;
 import androidx.annotation.RequiresApi;
 
 import com.facebook.react.bridge.ReactContext;
 
-import java.util.HashSet;
-import java.util.Set;
-
 import org.jitsi.meet.sdk.log.JitsiMeetLogger;
 
 
@@ -52,63 +50,60 @@ class AudioDeviceHandlerConnectionService implements
     private RNConnectionService rcs;
 
     /**
-     * Converts any of the "DEVICE_" constants into the corresponding
-     * {@link android.telecom.CallAudioState} "ROUTE_" number.
-     *
-     * @param audioDevice one of the "DEVICE_" constants.
-     * @return a route number {@link android.telecom.CallAudioState#ROUTE_EARPIECE} if
-     * no match is found.
+     * Used to store the most recently reported audio devices.
+     * Makes it easier to compare for a change, because the devices are stored
+     * as a mask in the {@link android.telecom.CallAudioState}. The mask is converted into
+     * the {@link AudioDevices} available devices on each update.
      */
-    private static int audioDeviceToRouteInt(String audioDevice) {
-        if (audioDevice == null) {
-            return CallAudioState.ROUTE_SPEAKER;
-        }
-        switch (audioDevice) {
-            case AudioModeModule.DEVICE_BLUETOOTH:
-                return CallAudioState.ROUTE_BLUETOOTH;
-            case AudioModeModule.DEVICE_EARPIECE:
-                return CallAudioState.ROUTE_EARPIECE;
-            case AudioModeModule.DEVICE_HEADPHONES:
-                return CallAudioState.ROUTE_WIRED_HEADSET;
-            case AudioModeModule.DEVICE_SPEAKER:
-                return CallAudioState.ROUTE_SPEAKER;
-            default:
-                JitsiMeetLogger.e(TAG + " Unsupported device name: " + audioDevice);
-                return CallAudioState.ROUTE_SPEAKER;
-        }
-    }
+    private int supportedRouteMask = -1;
 
     /**
-     * Populates given route mask into the "DEVICE_" list.
-     *
-     * @param supportedRouteMask an integer coming from
-     * {@link android.telecom.CallAudioState#getSupportedRouteMask()}.
-     * @return a list of device names.
+     * The most recently reported {@link CallAudioState}, to be handled by
+     * {@link #onCallAudioStateChangeRunner}.
      */
-    private static Set<String> routesToDeviceNames(int supportedRouteMask) {
-        Set<String> devices = new HashSet<>();
-        if ((supportedRouteMask & CallAudioState.ROUTE_EARPIECE) == CallAudioState.ROUTE_EARPIECE) {
-            devices.add(AudioModeModule.DEVICE_EARPIECE);
-        }
-        if ((supportedRouteMask & CallAudioState.ROUTE_BLUETOOTH) == CallAudioState.ROUTE_BLUETOOTH) {
-            devices.add(AudioModeModule.DEVICE_BLUETOOTH);
-        }
-        if ((supportedRouteMask & CallAudioState.ROUTE_SPEAKER) == CallAudioState.ROUTE_SPEAKER) {
-            devices.add(AudioModeModule.DEVICE_SPEAKER);
-        }
-        if ((supportedRouteMask & CallAudioState.ROUTE_WIRED_HEADSET) == CallAudioState.ROUTE_WIRED_HEADSET) {
-            devices.add(AudioModeModule.DEVICE_HEADPHONES);
-        }
-        return devices;
-    }
+    private volatile CallAudioState callAudioState;
 
     /**
-     * Used to store the most recently reported audio devices.
-     * Makes it easier to compare for a change, because the devices are stored
-     * as a mask in the {@link android.telecom.CallAudioState}. The mask is populated into
-     * the {@code availableDevices} on each update.
+     * The route most recently requested and not yet confirmed by a
+     * {@link CallAudioState}, or -1.
      */
-    private int supportedRouteMask = -1;
+    private volatile int requestedRoute = -1;
+
+    /**
+     * {@link Runnable} for handling the latest {@link CallAudioState} in the
+     * audio thread. Bursts of state changes are coalesced, only the last
+     * state is handled.
+     */
+    private final Runnable onCallAudioStateChangeRunner = new Runnable() {
+        @Override
+        public void run() {
+            CallAudioState state = callAudioState;
+
+            if (state == null || module == null) {
+                return;
+            }
+
+            boolean audioRouteChanged
+                = AudioDevices.toRoute(module.getSelectedDevice()) != state.getRoute();
+            int newSupportedRoutes = state.getSupportedRouteMask();
+            boolean audioDevicesChanged = supportedRouteMask != newSupportedRoutes;
+            if (audioDevicesChanged) {
+                supportedRouteMask = newSupportedRoutes;
+                int devices = AudioDevices.fromRouteMask(supportedRouteMask);
+                module.replaceDevices(devices, AudioDevices.NONE);
+                JitsiMeetLogger.i(TAG + " Available audio devices: " + AudioDevices.toString(devices));
+            }
+
+            if (audioRouteChanged) {
+                // The route was changed under us, pick it again.
+                module.resetSelectedDevice();
+            }
+
+            if (audioRouteChanged || audioDevicesChanged) {
+                module.updateAudioRoute();
+            }
+        }
+    };
 
     public AudioDeviceHandlerConnectionService(AudioManager audioManager) {
         this.audioManager = audioManager;
@@ -116,26 +111,13 @@ class AudioDeviceHandlerConnectionService implements
 
     @Override
     public void onCallAudioStateChange(final CallAudioState state) {
-        module.runInAudioThread(new Runnable() {
-            @Override
-            public void run() {
-                boolean audioRouteChanged
-                    = audioDeviceToRouteInt(module.getSelectedDevice()) != state.getRoute();
-                int newSupportedRoutes = state.getSupportedRouteMask();
-                boolean audioDevicesChanged = supportedRouteMask != newSupportedRoutes;
-                if (audioDevicesChanged) {
-                    supportedRouteMask = newSupportedRoutes;
-                    Set<String> devices = routesToDeviceNames(supportedRouteMask);
-                    module.replaceDevices(devices);
-                    JitsiMeetLogger.i(TAG + " Available audio devices: " + devices.toString());
-                }
-
-                if (audioRouteChanged || audioDevicesChanged) {
-                    module.resetSelectedDevice();
-                    module.updateAudioRoute();
-                }
-            }
-        });
+        if (state.getRoute() == requestedRoute) {
+            requestedRoute = -1;
+            module.getTelemetry().end(AudioTelemetry.ROUTE_CONFIRMATION, SystemClock.elapsedRealtime());
+        }
+
+        callAudioState = state;
+        module.runInAudioThreadCoalesced(onCallAudioStateChangeRunner, AudioModeModule.DEVICE_CHANGE_DELAY);
     }
 
     @Override
@@ -162,10 +144,14 @@ class AudioDeviceHandlerConnectionService implements
         }
     }
 
-    public void setAudioRoute(String audioDevice) {
-        int newAudioRoute = audioDeviceToRouteInt(audioDevice);
+    public boolean setAudioRoute(int audioDevice) {
+        int newAudioRoute = AudioDevices.toRoute(audioDevice);
 
+        module.getTelemetry().begin(AudioTelemetry.ROUTE_CONFIRMATION, SystemClock.elapsedRealtime());
+        requestedRoute = newAudioRoute;
         RNConnectionService.setAudioRoute(newAudioRoute);
+
+        return true;
     }
 
     @Override
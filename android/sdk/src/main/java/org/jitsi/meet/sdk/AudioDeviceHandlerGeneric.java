@@ -20,9 +20,7 @@ import android.media.AudioAttributes;
 import android.media.AudioDeviceInfo;
 import android.media.AudioFocusRequest;
 import android.media.AudioManager;
-
-import java.util.HashSet;
-import java.util.Set;
+import android.os.SystemClock;
 
 import org.jitsi.meet.sdk.log.JitsiMeetLogger;
 
@@ -44,18 +42,6 @@ class AudioDeviceHandlerGeneric implements
      */
     private AudioModeModule module;
 
-    /**
-     * Constant defining a Hearing Aid. Only available on API level >= 28.
-     * The value of: AudioDeviceInfo.TYPE_HEARING_AID
-     */
-    private static final int TYPE_HEARING_AID = 23;
-
-    /**
-     * Constant defining a USB headset. Only available on API level >= 26.
-     * The value of: AudioDeviceInfo.TYPE_USB_HEADSET
-     */
-    private static final int TYPE_USB_HEADSET = 22;
-
     /**
      * Indicator that we have lost audio focus.
      */
@@ -67,6 +53,11 @@ class AudioDeviceHandlerGeneric implements
      */
     private AudioManager audioManager;
 
+    /**
+     * Bluetooth SCO connection, for routing audio to a Bluetooth headset.
+     */
+    private BluetoothScoManager bluetoothScoManager;
+
     /**
      * {@link Runnable} for running audio device detection in the audio thread.
      * This is only used on Android >= M.
@@ -74,33 +65,45 @@ class AudioDeviceHandlerGeneric implements
     private final Runnable onAudioDeviceChangeRunner = new Runnable() {
         @Override
         public void run() {
-            Set<String> devices = new HashSet<>();
+            int devices = AudioDevices.NONE;
+            int stickyDevices = AudioDevices.NONE;
+            AudioRoutePolicy policy = module.getRoutePolicy();
             AudioDeviceInfo[] deviceInfos = audioManager.getDevices(AudioManager.GET_DEVICES_ALL);
 
             for (AudioDeviceInfo info: deviceInfos) {
+                int device = AudioDevices.NONE;
+
                 switch (info.getType()) {
                     case AudioDeviceInfo.TYPE_BLUETOOTH_SCO:
-                        devices.add(AudioModeModule.DEVICE_BLUETOOTH);
+                        device = AudioDevices.BLUETOOTH;
                         break;
                     case AudioDeviceInfo.TYPE_BUILTIN_EARPIECE:
-                        devices.add(AudioModeModule.DEVICE_EARPIECE);
+                        device = AudioDevices.EARPIECE;
                         break;
                     case AudioDeviceInfo.TYPE_BUILTIN_SPEAKER:
                     case AudioDeviceInfo.TYPE_HDMI:
-                        devices.add(AudioModeModule.DEVICE_SPEAKER);
+                        device = AudioDevices.SPEAKER;
                         break;
                     case AudioDeviceInfo.TYPE_WIRED_HEADPHONES:
                     case AudioDeviceInfo.TYPE_WIRED_HEADSET:
-                    case TYPE_HEARING_AID:
-                    case TYPE_USB_HEADSET:
-                        devices.add(AudioModeModule.DEVICE_HEADPHONES);
+                    case AudioRoutePolicy.TYPE_HEARING_AID:
+                    case AudioRoutePolicy.TYPE_USB_HEADSET:
+                        device = AudioDevices.HEADPHONES;
                         break;
                 }
+
+                devices |= device;
+
+                // Don't switch away from e.g. a hearing aid just because
+                // a bluetooth headset shows up.
+                if (policy.isSticky(info.getType())) {
+                    stickyDevices |= device;
+                }
             }
 
-            module.replaceDevices(devices);
+            module.replaceDevices(devices, stickyDevices);
 
-            JitsiMeetLogger.i(TAG + " Available audio devices: " + devices.toString());
+            JitsiMeetLogger.i(TAG + " Available audio devices: " + AudioDevices.toString(devices));
 
             module.updateAudioRoute();
         }
@@ -129,10 +132,11 @@ class AudioDeviceHandlerGeneric implements
 
     /**
      * Helper method to trigger an audio route update when devices change. It
-     * makes sure the operation is performed on the audio thread.
+     * makes sure the operation is performed on the audio thread, once per
+     * burst of changes.
      */
     private void onAudioDeviceChange() {
-        module.runInAudioThread(onAudioDeviceChangeRunner);
+        module.runInAudioThreadCoalesced(onAudioDeviceChangeRunner, AudioModeModule.DEVICE_CHANGE_DELAY);
     }
 
     /**
@@ -152,6 +156,10 @@ class AudioDeviceHandlerGeneric implements
                         // Some other application potentially stole our audio focus
                         // temporarily. Restore our mode.
                         if (audioFocusLost) {
+                            long duration = module.getTelemetry().end(
+                                AudioTelemetry.FOCUS_LOSS, SystemClock.elapsedRealtime());
+
+                            JitsiMeetLogger.d(TAG + " Audio focus was lost for " + duration + "ms");
                             module.resetAudioRoute();
                         }
                         audioFocusLost = false;
@@ -162,6 +170,7 @@ class AudioDeviceHandlerGeneric implements
                     case AudioManager.AUDIOFOCUS_LOSS_TRANSIENT_CAN_DUCK: {
                         JitsiMeetLogger.d(TAG + " Audio focus lost");
                         audioFocusLost = true;
+                        module.getTelemetry().beginIfIdle(AudioTelemetry.FOCUS_LOSS, SystemClock.elapsedRealtime());
                         break;
                     }
                 }
@@ -169,56 +178,65 @@ class AudioDeviceHandlerGeneric implements
         });
     }
 
-    /**
-     * Helper method to set the output route to a Bluetooth device.
-     *
-     * @param enabled true if Bluetooth should use used, false otherwise.
-     */
-    private void setBluetoothAudioRoute(boolean enabled) {
-        if (enabled) {
-            audioManager.startBluetoothSco();
-            audioManager.setBluetoothScoOn(true);
-        } else {
-            audioManager.setBluetoothScoOn(false);
-            audioManager.stopBluetoothSco();
-        }
-    }
-
     @Override
     public void start(AudioModeModule audioModeModule) {
         JitsiMeetLogger.i("Using " + TAG + " as the audio device handler");
 
         module = audioModeModule;
 
+        bluetoothScoManager = new BluetoothScoManager(audioManager, module, new BluetoothScoManager.Listener() {
+            @Override
+            public void onScoConnected() {
+                module.onAudioRouteConnected(AudioDevices.BLUETOOTH);
+            }
+
+            @Override
+            public void onScoFailed() {
+                module.onAudioRouteFailed(AudioDevices.BLUETOOTH);
+            }
+        });
+        bluetoothScoManager.start(module.getContext());
+
         // Setup runtime device change detection.
         audioManager.registerAudioDeviceCallback(audioDeviceCallback, null);
 
         // Do an initial detection.
-        onAudioDeviceChange();
+        module.runInAudioThread(onAudioDeviceChangeRunner);
     }
 
     @Override
     public void stop() {
         audioManager.unregisterAudioDeviceCallback(audioDeviceCallback);
+        bluetoothScoManager.stop(module.getContext());
     }
 
     @Override
-    public void setAudioRoute(String device) {
+    public boolean setAudioRoute(int device) {
+        if (device == AudioDevices.BLUETOOTH) {
+            // Keep the current route until SCO is connected, so no audio is
+            // lost in between.
+            bluetoothScoManager.connect();
+
+            return bluetoothScoManager.isConnected();
+        }
+
+        bluetoothScoManager.disconnect();
+
         // Turn speaker on / off
-        audioManager.setSpeakerphoneOn(device.equals(AudioModeModule.DEVICE_SPEAKER));
+        audioManager.setSpeakerphoneOn(device == AudioDevices.SPEAKER);
 
-        // Turn bluetooth on / off
-        setBluetoothAudioRoute(device.equals(AudioModeModule.DEVICE_BLUETOOTH));
+        return true;
     }
 
     @Override
     public boolean setMode(int mode) {
         if (mode == AudioModeModule.DEFAULT) {
             audioFocusLost = false;
+            module.getTelemetry().cancel(AudioTelemetry.FOCUS_LOSS);
             audioManager.setMode(AudioManager.MODE_NORMAL);
             audioManager.abandonAudioFocus(this);
+            bluetoothScoManager.disconnect();
             audioManager.setSpeakerphoneOn(false);
-            setBluetoothAudioRoute(false);
 
             return true;
         }
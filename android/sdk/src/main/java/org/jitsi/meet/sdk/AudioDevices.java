@@ -0,0 +1,217 @@
+/*
+ * Copyright @ 2026-present 8x8, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jitsi.meet.sdk;
+
+/**
+ * Immutable snapshot of the audio devices state of {@link AudioModeModule}:
+ * the available devices, those of them which are sticky (see
+ * {@link AudioRoutePolicy}), the selected one and the one the user selected.
+ * Devices are bits, so sets of devices are plain masks. A new snapshot is
+ * created for every change and published at once, so readers on any thread
+ * always see a consistent state.
+ *
+ * The device bits have the same values as the
+ * {@link android.telecom.CallAudioState} routes they map to.
+ */
+final class AudioDevices {
+    /**
+     * Audio device types.
+     */
+    static final int NONE       = 0;
+    static final int EARPIECE   = 0x1;
+    static final int BLUETOOTH  = 0x2;
+    static final int HEADPHONES = 0x4;
+    static final int SPEAKER    = 0x8;
+
+    /**
+     * Mask with all the audio device types.
+     */
+    static final int ALL = EARPIECE | BLUETOOTH | HEADPHONES | SPEAKER;
+
+    /**
+     * The state without any device.
+     */
+    static final AudioDevices EMPTY = new AudioDevices(NONE, NONE, NONE, NONE);
+
+    /**
+     * The available devices mask.
+     */
+    final int available;
+
+    /**
+     * The available devices which are sticky.
+     */
+    final int sticky;
+
+    /**
+     * The currently selected device or {@link #NONE}.
+     */
+    final int selected;
+
+    /**
+     * The device selected by the user or {@link #NONE}. When none the default
+     * is used depending on the mode.
+     */
+    final int userSelected;
+
+    private AudioDevices(int available, int sticky, int selected, int userSelected) {
+        this.available = available;
+        this.sticky = sticky;
+        this.selected = selected;
+        this.userSelected = userSelected;
+    }
+
+    boolean isAvailable(int device) {
+        return device != NONE && (available & device) == device;
+    }
+
+    /**
+     * Replaces the available devices. Changing them resets the user
+     * selection, and the selection if the selected device is gone.
+     *
+     * @param available the available devices mask.
+     * @param sticky the mask of the available devices which are sticky.
+     */
+    AudioDevices withAvailable(int available, int sticky) {
+        available &= ALL;
+        sticky &= available;
+
+        if (available == this.available) {
+            return sticky == this.sticky ? this : new AudioDevices(available, sticky, selected, userSelected);
+        }
+
+        return new AudioDevices(
+            available,
+            sticky,
+            (available & selected) != 0 ? selected : NONE,
+            NONE);
+    }
+
+    AudioDevices withSelected(int selected) {
+        return selected == this.selected ? this : new AudioDevices(available, sticky, selected, userSelected);
+    }
+
+    AudioDevices withUserSelected(int userSelected) {
+        return userSelected == this.userSelected ? this : new AudioDevices(available, sticky, selected, userSelected);
+    }
+
+    /**
+     * Resets the selected and user selected devices.
+     */
+    AudioDevices withoutSelection() {
+        return selected == NONE && userSelected == NONE ? this : new AudioDevices(available, sticky, NONE, NONE);
+    }
+
+    /**
+     * Gets the devices to be shown to the user. The earpiece is hidden when
+     * headphones are plugged in.
+     *
+     * @return the visible devices mask.
+     */
+    int getVisible() {
+        return (available & HEADPHONES) != 0 ? available & ~EARPIECE : available;
+    }
+
+    /**
+     * Converts a {@link android.telecom.CallAudioState} route mask to a devices
+     * mask.
+     */
+    static int fromRouteMask(int routeMask) {
+        return routeMask & ALL;
+    }
+
+    /**
+     * Converts a device to a {@link android.telecom.CallAudioState} route. No
+     * device maps to the speaker.
+     */
+    static int toRoute(int device) {
+        return device == NONE ? SPEAKER : device;
+    }
+
+    /**
+     * Gets the name of a device, as used by JS.
+     *
+     * @param device one of the device types.
+     * @return the device name or {@code null} if {@code device} is none or
+     * unknown.
+     */
+    static String toName(int device) {
+        switch (device) {
+            case BLUETOOTH:
+                return "BLUETOOTH";
+            case EARPIECE:
+                return "EARPIECE";
+            case HEADPHONES:
+                return "HEADPHONES";
+            case SPEAKER:
+                return "SPEAKER";
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Gets the device of a name, as used by JS.
+     *
+     * @param name a device name.
+     * @return the device type or {@link #NONE} if the name is unknown.
+     */
+    static int fromName(String name) {
+        if (name == null) {
+            return NONE;
+        }
+
+        switch (name) {
+            case "BLUETOOTH":
+                return BLUETOOTH;
+            case "EARPIECE":
+                return EARPIECE;
+            case "HEADPHONES":
+                return HEADPHONES;
+            case "SPEAKER":
+                return SPEAKER;
+            default:
+                return NONE;
+        }
+    }
+
+    /**
+     * Gets the names of the devices of a mask, for logging.
+     */
+    static String toString(int devices) {
+        StringBuilder sb = new StringBuilder("[");
+
+        for (int device = EARPIECE; device <= SPEAKER; device <<= 1) {
+            if ((devices & device) != 0) {
+                if (sb.length() > 1) {
+                    sb.append(", ");
+                }
+                sb.append(toName(device));
+            }
+        }
+
+        return sb.append(']').toString();
+    }
+
+    @Override
+    public String toString() {
+        return "AudioDevices{available=" + toString(available)
+            + ", sticky=" + toString(sticky)
+            + ", selected=" + toName(selected)
+            + ", userSelected=" + toName(userSelected) + "}";
+    }
+}
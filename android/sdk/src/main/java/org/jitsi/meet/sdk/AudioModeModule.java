@@ -20,6 +20,7 @@ import android.annotation.SuppressLint;
 import android.app.Activity;
 import android.content.Context;
 import android.media.AudioManager;
+import android.os.SystemClock;
 
 import com.facebook.react.bridge.Arguments;
 import com.facebook.react.bridge.Promise;
@@ -27,6 +28,8 @@ import com.facebook.react.bridge.ReactApplicationContext;
 import com.facebook.react.bridge.ReactContextBaseJavaModule;
 import com.facebook.react.bridge.ReactContext;
 import com.facebook.react.bridge.ReactMethod;
+import com.facebook.react.bridge.ReadableArray;
+import com.facebook.react.bridge.ReadableMap;
 import com.facebook.react.bridge.WritableArray;
 import com.facebook.react.bridge.WritableMap;
 import com.facebook.react.module.annotations.ReactModule;
@@ -36,11 +39,11 @@ import com.facebook.react.modules.core.DeviceEventManagerModule;
 import org.jitsi.meet.sdk.log.JitsiMeetLogger;
 
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.Map;
-import java.util.Set;
-import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Module implementing a simple API to select the appropriate audio device for a
@@ -97,49 +100,82 @@ class AudioModeModule extends ReactContextBaseJavaModule {
     private AudioDeviceHandlerInterface audioDeviceHandler;
 
     /**
-     * {@link ExecutorService} for running all audio operations on a dedicated
-     * thread.
+     * Decides the audio route, as per the configured {@link AudioRoutePolicy}.
+     * Only used on the audio thread.
      */
-    private static final ExecutorService executor = Executors.newSingleThreadExecutor();
+    private final AudioRouteEngine routeEngine = new AudioRouteEngine();
 
     /**
-     * Audio mode currently in use.
+     * The device the audio device handler is setting up the route for, e.g.
+     * while Bluetooth SCO is connecting, or {@link AudioDevices#NONE}. It only
+     * becomes the selected device once the route is active. Only used on the
+     * audio thread.
      */
-    private int mode = -1;
+    private int pendingDevice = AudioDevices.NONE;
 
     /**
-     * Audio device types.
+     * Timings and counters of the audio path, see {@link #getAudioMetrics}.
      */
-    static final String DEVICE_BLUETOOTH  = "BLUETOOTH";
-    static final String DEVICE_EARPIECE   = "EARPIECE";
-    static final String DEVICE_HEADPHONES = "HEADPHONES";
-    static final String DEVICE_SPEAKER    = "SPEAKER";
+    private final AudioTelemetry telemetry = new AudioTelemetry();
 
     /**
-     * Device change event.
+     * {@link Runnable} for making the route decision again, once a switch
+     * postponed by the {@link AudioRoutePolicy} is due.
      */
-    private static final String DEVICE_CHANGE_EVENT = "org.jitsi.meet:features/audio-mode#devices-update";
+    private final Runnable reevaluateAudioRouteRunner = new Runnable() {
+        @Override
+        public void run() {
+            updateAudioRoute();
+        }
+    };
+
+    /**
+     * {@link ScheduledExecutorService} for running all audio operations on a
+     * dedicated thread.
+     */
+    private static final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
+
+    /**
+     * How long to wait for a burst of device changes to settle before acting
+     * on them, in milliseconds. Connecting a Bluetooth headset, for example,
+     * reports several devices one after the other.
+     */
+    static final long DEVICE_CHANGE_DELAY = 250;
+
+    /**
+     * The operations scheduled with
+     * {@link #runInAudioThreadCoalesced(Runnable, long)}.
+     */
+    private final Map<Runnable, ScheduledFuture<?>> coalescedTasks = new HashMap<>();
+
+    /**
+     * Audio mode currently in use.
+     */
+    private int mode = -1;
 
     /**
-     * List of currently available audio devices.
+     * Device change event.
      */
-    private Set<String> availableDevices = new HashSet<>();
+    private static final String DEVICE_CHANGE_EVENT = "org.jitsi.meet:features/audio-mode#devices-update";
 
     /**
-     * Currently selected device.
+     * The available, selected and user selected devices. The snapshot is
+     * replaced as a whole on every change, on the audio thread, and can be
+     * read from any thread.
      */
-    private String selectedDevice;
+    private volatile AudioDevices devices = AudioDevices.EMPTY;
 
     /**
-     * User selected device. When null the default is used depending on the
-     * mode.
+     * Whether or not audio is disabled. Only written on the audio thread.
      */
-    private String userSelectedDevice;
+    private volatile boolean audioDisabled;
 
     /**
-     * Whether or not audio is disabled.
+     * The visible devices and selected device last sent to JS, so that nothing
+     * is sent when they didn't change. Only accessed on the audio thread.
      */
-    private boolean audioDisabled;
+    private int notifiedDevices = -1;
+    private int notifiedSelectedDevice = -1;
 
     /**
      * Initializes a new module instance. There shall be a single instance of
@@ -189,16 +225,24 @@ class AudioModeModule extends ReactContextBaseJavaModule {
         runInAudioThread(new Runnable() {
             @Override
             public void run() {
+                AudioDevices devices = AudioModeModule.this.devices;
+                // Skip earpiece when headphones are plugged in.
+                int visibleDevices = devices.getVisible();
+
+                if (visibleDevices == notifiedDevices && devices.selected == notifiedSelectedDevice) {
+                    return;
+                }
+                notifiedDevices = visibleDevices;
+                notifiedSelectedDevice = devices.selected;
+
                 WritableArray data = Arguments.createArray();
-                final boolean hasHeadphones = availableDevices.contains(DEVICE_HEADPHONES);
-                for (String device : availableDevices) {
-                    if (hasHeadphones && device.equals(DEVICE_EARPIECE)) {
-                        // Skip earpiece when headphones are plugged in.
+                for (int device = AudioDevices.EARPIECE; device <= AudioDevices.SPEAKER; device <<= 1) {
+                    if ((visibleDevices & device) == 0) {
                         continue;
                     }
                     WritableMap deviceInfo = Arguments.createMap();
-                    deviceInfo.putString("type", device);
-                    deviceInfo.putBoolean("selected", device.equals(selectedDevice));
+                    deviceInfo.putString("type", AudioDevices.toName(device));
+                    deviceInfo.putBoolean("selected", device == devices.selected);
                     data.pushMap(deviceInfo);
                 }
                 getContext().getJSModule(DeviceEventManagerModule.RCTDeviceEventEmitter.class).emit(DEVICE_CHANGE_EVENT, data);
@@ -222,9 +266,10 @@ class AudioModeModule extends ReactContextBaseJavaModule {
     }
 
     /**
-     * Initializes the audio device handler module. This function is called *after* all Catalyst
-     * modules have been created, and that's why we use it, because {@link AudioDeviceHandlerConnectionService}
-     * needs access to another Catalyst module, so doing this in the constructor would be too early.
+     * Initializes the audio device handler module. This function is called *after* the module has
+     * been created and registered, and that's why we use it, because
+     * {@link AudioDeviceHandlerConnectionService} needs access to another Catalyst module (which
+     * may be created lazily at that point), so doing this in the constructor would be too early.
      */
     @Override
     public void initialize() {
@@ -264,50 +309,211 @@ class AudioModeModule extends ReactContextBaseJavaModule {
         executor.execute(runnable);
     }
 
+    /**
+     * Helper function to run an operation on the audio thread once a burst of
+     * requests to run it has settled. Every request postpones the pending run,
+     * if any, so the operation only runs once per burst.
+     *
+     * @param runnable the operation to run, the same instance must be used for
+     * all the requests which are to be coalesced.
+     * @param delay how long to wait for more requests, in milliseconds.
+     */
+    void runInAudioThreadCoalesced(Runnable runnable, long delay) {
+        synchronized (coalescedTasks) {
+            ScheduledFuture<?> pending = coalescedTasks.get(runnable);
+
+            if (pending != null) {
+                pending.cancel(false);
+            }
+            coalescedTasks.put(runnable, executor.schedule(runnable, delay, TimeUnit.MILLISECONDS));
+        }
+    }
+
     /**
      * Sets the user selected audio device as the active audio device.
      *
      * @param device the desired device which will become active.
      */
     @ReactMethod
-    public void setAudioDevice(final String device) {
+    public void setAudioDevice(final String deviceName) {
+        final int device = AudioDevices.fromName(deviceName);
+
         runInAudioThread(new Runnable() {
             @Override
             public void run() {
-                if (!availableDevices.contains(device)) {
-                    JitsiMeetLogger.w(TAG + " Audio device not available: " + device);
-                    userSelectedDevice = null;
+                if (!devices.isAvailable(device)) {
+                    JitsiMeetLogger.w(TAG + " Audio device not available: " + deviceName);
+                    devices = devices.withUserSelected(AudioDevices.NONE);
                     return;
                 }
 
                 if (mode != -1) {
-                    JitsiMeetLogger.i(TAG + " User selected device set to: " + device);
-                    userSelectedDevice = device;
+                    JitsiMeetLogger.i(TAG + " User selected device set to: " + deviceName);
+                    devices = devices.withUserSelected(device);
                     updateAudioRoute(mode, false);
                 }
             }
         });
     }
 
+    /**
+     * Sets the policy for picking the audio route. See {@link AudioRoutePolicy}.
+     * It comes from the {@code audioRoutePolicy} config, which can be set
+     * through the conference options config overrides.
+     *
+     * @param config the policy: {@code audioCall} and {@code videoCall}, the
+     * device names in order of priority for each mode; {@code hysteresis} and
+     * {@code minDwellTime} in milliseconds; {@code stickyDevices}, the names of
+     * the sticky device types. Missing keys keep their default.
+     */
     @ReactMethod
-    public void setDisabled(final boolean disabled, final Promise promise) {
-        if (audioDisabled == disabled) {
-            promise.resolve(null);
+    public void setRoutePolicy(ReadableMap config) {
+        final AudioRoutePolicy policy;
+
+        try {
+            policy = parseRoutePolicy(config);
+        } catch (RuntimeException e) {
+            JitsiMeetLogger.w(e, TAG + " Invalid audio route policy");
             return;
         }
 
-        JitsiMeetLogger.i(TAG + "  audio disabled: " + disabled);
+        runInAudioThread(new Runnable() {
+            @Override
+            public void run() {
+                JitsiMeetLogger.i(TAG + " Audio route policy set to: " + policy);
+                routeEngine.setPolicy(policy);
+                updateAudioRoute();
+            }
+        });
+    }
 
-        audioDisabled = disabled;
-        setAudioDeviceHandler();
+    private static AudioRoutePolicy parseRoutePolicy(ReadableMap config) {
+        AudioRoutePolicy.Builder builder = new AudioRoutePolicy.Builder();
 
-        if (disabled) {
-            mode = -1;
-            availableDevices.clear();
-            resetSelectedDevice();
+        if (config.hasKey("audioCall")) {
+            builder.setPriorities(AUDIO_CALL, parseDevices(config.getArray("audioCall")));
+        }
+        if (config.hasKey("videoCall")) {
+            builder.setPriorities(VIDEO_CALL, parseDevices(config.getArray("videoCall")));
         }
+        if (config.hasKey("hysteresis")) {
+            builder.setHysteresis((long) config.getDouble("hysteresis"));
+        }
+        if (config.hasKey("minDwellTime")) {
+            builder.setMinDwellTime((long) config.getDouble("minDwellTime"));
+        }
+        if (config.hasKey("stickyDevices")) {
+            ReadableArray names = config.getArray("stickyDevices");
+            int[] types = new int[names.size()];
 
-        promise.resolve(null);
+            for (int i = 0; i < types.length; i++) {
+                types[i] = parseDeviceType(names.getString(i));
+            }
+            builder.setStickyDeviceTypes(types);
+        }
+
+        return builder.build();
+    }
+
+    private static int[] parseDevices(ReadableArray names) {
+        int[] devices = new int[names.size()];
+
+        for (int i = 0; i < devices.length; i++) {
+            devices[i] = AudioDevices.fromName(names.getString(i));
+        }
+
+        return devices;
+    }
+
+    /**
+     * Converts a sticky device type name to the {@code AudioDeviceInfo} type.
+     */
+    private static int parseDeviceType(String name) {
+        switch (name) {
+            case "BLUETOOTH_SCO":
+                return android.media.AudioDeviceInfo.TYPE_BLUETOOTH_SCO;
+            case "HEARING_AID":
+                return AudioRoutePolicy.TYPE_HEARING_AID;
+            case "USB_HEADSET":
+                return AudioRoutePolicy.TYPE_USB_HEADSET;
+            case "WIRED_HEADPHONES":
+                return android.media.AudioDeviceInfo.TYPE_WIRED_HEADPHONES;
+            case "WIRED_HEADSET":
+                return android.media.AudioDeviceInfo.TYPE_WIRED_HEADSET;
+            default:
+                throw new IllegalArgumentException("Unknown device type: " + name);
+        }
+    }
+
+    /**
+     * Gets the audio path metrics collected so far: for every timing the
+     * number of samples and the last, min, max and average durations in
+     * milliseconds, plus the counters.
+     *
+     * @param promise resolved with the metrics.
+     */
+    @ReactMethod
+    public void getAudioMetrics(Promise promise) {
+        WritableMap timings = Arguments.createMap();
+
+        for (Map.Entry<String, AudioTelemetry.Timing> entry : telemetry.getTimings().entrySet()) {
+            AudioTelemetry.Timing timing = entry.getValue();
+            WritableMap data = Arguments.createMap();
+
+            data.putInt("count", timing.count);
+            data.putDouble("last", timing.last);
+            data.putDouble("min", timing.min);
+            data.putDouble("max", timing.max);
+            data.putDouble("average", timing.getAverage());
+            timings.putMap(entry.getKey(), data);
+        }
+
+        WritableMap counters = Arguments.createMap();
+
+        for (Map.Entry<String, Integer> entry : telemetry.getCounters().entrySet()) {
+            counters.putInt(entry.getKey(), entry.getValue());
+        }
+
+        WritableMap metrics = Arguments.createMap();
+
+        metrics.putMap("timings", timings);
+        metrics.putMap("counters", counters);
+        promise.resolve(metrics);
+    }
+
+    /**
+     * Clears the audio path metrics collected so far.
+     */
+    @ReactMethod
+    public void resetAudioMetrics() {
+        telemetry.reset();
+    }
+
+    @ReactMethod
+    public void setDisabled(final boolean disabled, final Promise promise) {
+        // The device handler, the mode and the devices are only touched on
+        // the audio thread.
+        runInAudioThread(new Runnable() {
+            @Override
+            public void run() {
+                if (audioDisabled == disabled) {
+                    promise.resolve(null);
+                    return;
+                }
+
+                JitsiMeetLogger.i(TAG + "  audio disabled: " + disabled);
+
+                audioDisabled = disabled;
+                setAudioDeviceHandler();
+
+                if (disabled) {
+                    mode = -1;
+                    devices = AudioDevices.EMPTY;
+                }
+
+                promise.resolve(null);
+            }
+        });
     }
 
     /**
@@ -338,6 +544,8 @@ class AudioModeModule extends ReactContextBaseJavaModule {
             }
         }
 
+        telemetry.begin(AudioTelemetry.MODE_CHANGE, SystemClock.elapsedRealtime());
+
         runInAudioThread(new Runnable() {
             @Override
             public void run() {
@@ -353,6 +561,7 @@ class AudioModeModule extends ReactContextBaseJavaModule {
                     AudioModeModule.this.mode = mode;
                     promise.resolve(null);
                 } else {
+                    telemetry.cancel(AudioTelemetry.MODE_CHANGE);
                     promise.reject("setMode", "Failed to set audio mode to " + mode);
                 }
             }
@@ -390,92 +599,157 @@ class AudioModeModule extends ReactContextBaseJavaModule {
             return false;
         }
 
+        AudioDevices devices = this.devices;
+
         if (mode == DEFAULT) {
-            selectedDevice = null;
-            userSelectedDevice = null;
+            this.devices = devices.withoutSelection();
+            routeEngine.reset();
+            pendingDevice = AudioDevices.NONE;
+            telemetry.cancel(AudioTelemetry.ROUTE_SWITCH);
+            telemetry.end(AudioTelemetry.MODE_CHANGE, SystemClock.elapsedRealtime());
 
             notifyDevicesChanged();
             return true;
         }
 
-        boolean bluetoothAvailable = availableDevices.contains(DEVICE_BLUETOOTH);
-        boolean headsetAvailable = availableDevices.contains(DEVICE_HEADPHONES);
-
-        // Pick the desired device based on what's available and the mode.
-        String audioDevice;
-        if (bluetoothAvailable) {
-            audioDevice = DEVICE_BLUETOOTH;
-        } else if (headsetAvailable) {
-            audioDevice = DEVICE_HEADPHONES;
-        } else {
-            audioDevice = DEVICE_SPEAKER;
-        }
-
-        // Consider the user's selection
-        if (userSelectedDevice != null && availableDevices.contains(userSelectedDevice)) {
-            audioDevice = userSelectedDevice;
+        // Pick the desired device based on what's available, the mode and
+        // the policy. A pending route counts as the current one, it's
+        // reported as selected as soon as it's active.
+        AudioDevices current = pendingDevice == AudioDevices.NONE ? devices : devices.withSelected(pendingDevice);
+        long now = SystemClock.elapsedRealtime();
+        int audioDevice = routeEngine.decide(mode, current, now);
+        long reevaluateIn = routeEngine.getReevaluateIn();
+
+        if (reevaluateIn > 0) {
+            JitsiMeetLogger.i(TAG + " Audio route switch postponed by " + reevaluateIn + "ms");
+            runInAudioThreadCoalesced(reevaluateAudioRouteRunner, reevaluateIn);
         }
 
         // If the previously selected device and the current default one
         // match, do nothing.
-        if (!force && selectedDevice != null && selectedDevice.equals(audioDevice)) {
+        if (!force && current.selected == audioDevice) {
+            if (pendingDevice == AudioDevices.NONE) {
+                telemetry.end(AudioTelemetry.MODE_CHANGE, now);
+            }
+            notifyDevicesChanged();
             return true;
         }
 
-        selectedDevice = audioDevice;
-        JitsiMeetLogger.i(TAG + " Selected audio device: " + audioDevice);
+        telemetry.begin(AudioTelemetry.ROUTE_SWITCH, now);
 
-        audioDeviceHandler.setAudioRoute(audioDevice);
+        if (audioDeviceHandler.setAudioRoute(audioDevice)) {
+            pendingDevice = AudioDevices.NONE;
+            this.devices = devices.withSelected(audioDevice);
+            JitsiMeetLogger.i(TAG + " Selected audio device: " + AudioDevices.toName(audioDevice));
+            onAudioRouteActive();
+        } else {
+            pendingDevice = audioDevice;
+            JitsiMeetLogger.i(TAG + " Waiting for audio device: " + AudioDevices.toName(audioDevice));
+        }
 
         notifyDevicesChanged();
         return true;
     }
 
+    /**
+     * Called by the audio device handler when the route it was setting up
+     * is active. Must be called on the audio thread.
+     *
+     * @param device the {@link AudioDevices} type of the route.
+     */
+    void onAudioRouteConnected(int device) {
+        if (device != pendingDevice) {
+            return;
+        }
+
+        pendingDevice = AudioDevices.NONE;
+        devices = devices.withSelected(device);
+        JitsiMeetLogger.i(TAG + " Selected audio device: " + AudioDevices.toName(device));
+        onAudioRouteActive();
+
+        notifyDevicesChanged();
+    }
+
+    /**
+     * Records the route switch, and the mode change if one was waiting for
+     * it, as done.
+     */
+    private void onAudioRouteActive() {
+        long now = SystemClock.elapsedRealtime();
+        long duration = telemetry.end(AudioTelemetry.ROUTE_SWITCH, now);
+
+        if (duration >= 0) {
+            JitsiMeetLogger.d(TAG + " Audio route switched in " + duration + "ms");
+        }
+        telemetry.end(AudioTelemetry.MODE_CHANGE, now);
+    }
+
+    /**
+     * Called by the audio device handler when the route it was setting up, or
+     * the selected route, couldn't be set up. The device is considered
+     * unavailable until the next device change, and the next best one is used.
+     * Must be called on the audio thread.
+     *
+     * @param device the {@link AudioDevices} type of the route.
+     */
+    void onAudioRouteFailed(int device) {
+        if (device != pendingDevice && device != devices.selected) {
+            return;
+        }
+
+        JitsiMeetLogger.w(TAG + " Audio device failed: " + AudioDevices.toName(device));
+
+        telemetry.cancel(AudioTelemetry.ROUTE_SWITCH);
+        telemetry.increment(AudioTelemetry.ROUTE_FAILURES);
+        pendingDevice = AudioDevices.NONE;
+        devices = devices.withAvailable(devices.available & ~device, devices.sticky);
+        updateAudioRoute();
+    }
+
     /**
      * Gets the currently selected audio device.
      *
-     * @return The selected audio device.
+     * @return The selected audio device, one of the {@link AudioDevices}
+     * types.
      */
-    String getSelectedDevice() {
-        return selectedDevice;
+    int getSelectedDevice() {
+        return devices.selected;
     }
 
     /**
-     * Resets the current device selection.
+     * Resets the current device selection. Must be called on the audio thread.
      */
     void resetSelectedDevice() {
-        selectedDevice = null;
-        userSelectedDevice = null;
+        devices = devices.withoutSelection();
     }
 
     /**
-     * Adds a new device to the list of available devices.
+     * Replaces the current available devices with new ones. Must be called on
+     * the audio thread.
      *
-     * @param device The new device.
+     * @param availableDevices The new {@link AudioDevices} mask.
+     * @param stickyDevices The mask of the available devices which are backed
+     * by a sticky device type, see {@link AudioRoutePolicy}.
      */
-    void addDevice(String device) {
-        availableDevices.add(device);
-        resetSelectedDevice();
+    void replaceDevices(int availableDevices, int stickyDevices) {
+        devices = devices.withAvailable(availableDevices, stickyDevices);
     }
 
     /**
-     * Removes a device from the list of available devices.
-     *
-     * @param device The old device to the removed.
+     * Gets the audio telemetry, for the audio device handlers to record what
+     * only they know about.
      */
-    void removeDevice(String device) {
-        availableDevices.remove(device);
-        resetSelectedDevice();
+    AudioTelemetry getTelemetry() {
+        return telemetry;
     }
 
     /**
-     * Replaces the current list of available devices with a new one.
+     * Gets the audio route policy in use. Must be called on the audio thread.
      *
-     * @param devices The new devices list.
+     * @return the {@link AudioRoutePolicy}.
      */
-    void replaceDevices(Set<String> devices) {
-        availableDevices = devices;
-        resetSelectedDevice();
+    AudioRoutePolicy getRoutePolicy() {
+        return routeEngine.getPolicy();
     }
 
     /**
@@ -514,9 +788,14 @@ class AudioModeModule extends ReactContextBaseJavaModule {
         /**
          * Set the appropriate route for the given audio device.
          *
-         * @param device Audio device for which the route must be set.
+         * @param device Audio device for which the route must be set, one of
+         * the {@link AudioDevices} types.
+         * @return {@code true} if the route is active; {@code false} if it's
+         * being set up, in which case the handler calls
+         * {@link AudioModeModule#onAudioRouteConnected(int)} or
+         * {@link AudioModeModule#onAudioRouteFailed(int)} once done.
          */
-        void setAudioRoute(String device);
+        boolean setAudioRoute(int device);
 
         /**
          * Set the given audio mode.
@@ -0,0 +1,152 @@
+/*
+ * Copyright @ 2026-present 8x8, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jitsi.meet.sdk;
+
+/**
+ * Decides which audio device to route to, as per an {@link AudioRoutePolicy}.
+ * It keeps track of when the route was last switched and since when a better
+ * device has been available, so that it doesn't flap between routes while
+ * devices come and go.
+ *
+ * It has no Android dependencies; time is passed in by the caller. It's not
+ * thread safe, {@link AudioModeModule} only uses it on the audio thread.
+ */
+final class AudioRouteEngine {
+    private AudioRoutePolicy policy = AudioRoutePolicy.DEFAULT;
+
+    /**
+     * The better device the engine is waiting to switch to or
+     * {@link AudioDevices#NONE}.
+     */
+    private int candidate = AudioDevices.NONE;
+
+    /**
+     * Since when {@link #candidate} has been the preferred device.
+     */
+    private long candidateSince;
+
+    /**
+     * When the route was last switched. There's no dwell time to wait for
+     * before the first switch.
+     */
+    private long switchedAt = Long.MIN_VALUE / 2;
+
+    /**
+     * In how long the decision is to be made again, or -1.
+     */
+    private long reevaluateIn = -1;
+
+    AudioRoutePolicy getPolicy() {
+        return policy;
+    }
+
+    void setPolicy(AudioRoutePolicy policy) {
+        this.policy = policy;
+    }
+
+    /**
+     * Forgets about the past decisions, for example when the call ends.
+     */
+    void reset() {
+        candidate = AudioDevices.NONE;
+        switchedAt = Long.MIN_VALUE / 2;
+        reevaluateIn = -1;
+    }
+
+    /**
+     * Decides which device to route to.
+     *
+     * @param mode the current {@link AudioModeModule} mode, other than
+     * {@link AudioModeModule#DEFAULT}.
+     * @param devices the current devices state.
+     * @param now the current time, in milliseconds.
+     * @return the device to route to, which is {@code devices.selected} if the
+     * route is to be kept.
+     */
+    int decide(int mode, AudioDevices devices, long now) {
+        int current = devices.selected;
+
+        reevaluateIn = -1;
+
+        // The choice of the user applies right away.
+        if (devices.isAvailable(devices.userSelected)) {
+            return switchTo(devices.userSelected, current, now);
+        }
+
+        int preferred = getPreferred(mode, devices);
+
+        // So does anything better than a route which is gone.
+        if (!devices.isAvailable(current)) {
+            return switchTo(preferred, current, now);
+        }
+
+        // Keep the current route if it's the best one or it's sticky.
+        if (preferred == current || (devices.sticky & current) != 0) {
+            candidate = AudioDevices.NONE;
+            return current;
+        }
+
+        if (candidate != preferred) {
+            candidate = preferred;
+            candidateSince = now;
+        }
+
+        long wait = Math.max(
+            candidateSince + policy.hysteresis,
+            switchedAt + policy.minDwellTime) - now;
+
+        if (wait > 0) {
+            reevaluateIn = wait;
+            return current;
+        }
+
+        return switchTo(preferred, current, now);
+    }
+
+    /**
+     * Gets in how long {@link #decide(int, AudioDevices, long)} is to be
+     * called again, because a switch was postponed.
+     *
+     * @return the delay in milliseconds or -1 if there's no need to.
+     */
+    long getReevaluateIn() {
+        return reevaluateIn;
+    }
+
+    /**
+     * Gets the available device with the highest priority in the given mode.
+     */
+    private int getPreferred(int mode, AudioDevices devices) {
+        for (int device : policy.getPriorities(mode)) {
+            if (devices.isAvailable(device)) {
+                return device;
+            }
+        }
+
+        return AudioDevices.SPEAKER;
+    }
+
+    private int switchTo(int device, int current, long now) {
+        candidate = AudioDevices.NONE;
+
+        if (device != current) {
+            switchedAt = now;
+        }
+
+        return device;
+    }
+}
@@ -0,0 +1,182 @@
+/*
+ * Copyright @ 2026-present 8x8, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jitsi.meet.sdk;
+
+import java.util.Arrays;
+
+/**
+ * Immutable configuration of how {@link AudioRouteEngine} picks the audio
+ * route:
+ * - the devices to use, in order of priority, for every audio mode;
+ * - the hysteresis, how long a better device must stay available before
+ *   switching to it;
+ * - the minimum dwell time, how long a route is kept before switching
+ *   automatically to another one;
+ * - the sticky device types, {@code AudioDeviceInfo} types which are not
+ *   switched away from while available, even if a device with a higher
+ *   priority shows up.
+ *
+ * A route which is no longer available and the choice of the user are always
+ * applied right away.
+ */
+final class AudioRoutePolicy {
+    /**
+     * {@code AudioDeviceInfo.TYPE_USB_HEADSET}, available on API level >= 26.
+     */
+    static final int TYPE_USB_HEADSET = 22;
+
+    /**
+     * {@code AudioDeviceInfo.TYPE_HEARING_AID}, available on API level >= 28.
+     */
+    static final int TYPE_HEARING_AID = 23;
+
+    /**
+     * The policy used unless configured otherwise. It matches the historical
+     * behavior: bluetooth, then headphones, then the speaker, with no delays
+     * and no sticky devices.
+     */
+    static final AudioRoutePolicy DEFAULT = new Builder().build();
+
+    private final int[] audioCallPriorities;
+    private final int[] videoCallPriorities;
+
+    /**
+     * The hysteresis, in milliseconds.
+     */
+    final long hysteresis;
+
+    /**
+     * The minimum dwell time, in milliseconds.
+     */
+    final long minDwellTime;
+
+    private final int[] stickyDeviceTypes;
+
+    private AudioRoutePolicy(Builder builder) {
+        audioCallPriorities = builder.audioCallPriorities;
+        videoCallPriorities = builder.videoCallPriorities;
+        hysteresis = builder.hysteresis;
+        minDwellTime = builder.minDwellTime;
+        stickyDeviceTypes = builder.stickyDeviceTypes;
+    }
+
+    /**
+     * Gets the devices to use in the given mode, in order of priority.
+     *
+     * @param mode one of the {@link AudioModeModule} modes.
+     * @return the {@link AudioDevices} types.
+     */
+    int[] getPriorities(int mode) {
+        return mode == AudioModeModule.AUDIO_CALL ? audioCallPriorities : videoCallPriorities;
+    }
+
+    /**
+     * Checks whether the given {@code AudioDeviceInfo} type is sticky.
+     */
+    boolean isSticky(int deviceType) {
+        for (int stickyDeviceType : stickyDeviceTypes) {
+            if (stickyDeviceType == deviceType) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    @Override
+    public String toString() {
+        return "AudioRoutePolicy{audioCall=" + toString(audioCallPriorities)
+            + ", videoCall=" + toString(videoCallPriorities)
+            + ", hysteresis=" + hysteresis
+            + ", minDwellTime=" + minDwellTime
+            + ", stickyDeviceTypes=" + Arrays.toString(stickyDeviceTypes) + "}";
+    }
+
+    private static String toString(int[] devices) {
+        String[] names = new String[devices.length];
+
+        for (int i = 0; i < devices.length; i++) {
+            names[i] = AudioDevices.toName(devices[i]);
+        }
+
+        return Arrays.toString(names);
+    }
+
+    static final class Builder {
+        private int[] audioCallPriorities
+            = { AudioDevices.BLUETOOTH, AudioDevices.HEADPHONES, AudioDevices.SPEAKER };
+        private int[] videoCallPriorities
+            = { AudioDevices.BLUETOOTH, AudioDevices.HEADPHONES, AudioDevices.SPEAKER };
+        private long hysteresis;
+        private long minDwellTime;
+        private int[] stickyDeviceTypes = {};
+
+        /**
+         * Sets the devices to use in the given mode, in order of priority.
+         * When none of them is available the speaker is used.
+         *
+         * @param mode {@link AudioModeModule#AUDIO_CALL} or
+         * {@link AudioModeModule#VIDEO_CALL}.
+         * @param devices the {@link AudioDevices} types.
+         */
+        Builder setPriorities(int mode, int... devices) {
+            for (int device : devices) {
+                if (AudioDevices.toName(device) == null) {
+                    throw new IllegalArgumentException("Invalid audio device: " + device);
+                }
+            }
+
+            switch (mode) {
+                case AudioModeModule.AUDIO_CALL:
+                    audioCallPriorities = devices.clone();
+                    break;
+                case AudioModeModule.VIDEO_CALL:
+                    videoCallPriorities = devices.clone();
+                    break;
+                default:
+                    throw new IllegalArgumentException("Invalid audio mode: " + mode);
+            }
+
+            return this;
+        }
+
+        Builder setHysteresis(long hysteresis) {
+            if (hysteresis < 0) {
+                throw new IllegalArgumentException("Negative hysteresis: " + hysteresis);
+            }
+            this.hysteresis = hysteresis;
+            return this;
+        }
+
+        Builder setMinDwellTime(long minDwellTime) {
+            if (minDwellTime < 0) {
+                throw new IllegalArgumentException("Negative min dwell time: " + minDwellTime);
+            }
+            this.minDwellTime = minDwellTime;
+            return this;
+        }
+
+        Builder setStickyDeviceTypes(int... stickyDeviceTypes) {
+            this.stickyDeviceTypes = stickyDeviceTypes.clone();
+            return this;
+        }
+
+        AudioRoutePolicy build() {
+            return new AudioRoutePolicy(this);
+        }
+    }
+}
@@ -0,0 +1,198 @@
+/*
+ * Copyright @ 2026-present 8x8, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jitsi.meet.sdk;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Collects timings and counters about the audio path: how long mode changes
+ * and route switches take, how long the audio focus is lost for, etc. They
+ * are exposed to JS by {@link AudioModeModule#getAudioMetrics}.
+ *
+ * A timing is an interval which is begun and ended by name, the ended ones
+ * are aggregated. It has no Android dependencies, time is passed in by the
+ * callers. It's thread safe, so intervals can be begun and ended on
+ * different threads.
+ */
+final class AudioTelemetry {
+    /**
+     * From a mode being requested to the route for it being active.
+     */
+    static final String MODE_CHANGE = "modeChange";
+
+    /**
+     * From a route being requested to it being active.
+     */
+    static final String ROUTE_SWITCH = "routeSwitch";
+
+    /**
+     * From a route being requested to the platform confirming it, e.g.
+     * through {@code onCallAudioStateChanged}.
+     */
+    static final String ROUTE_CONFIRMATION = "routeConfirmation";
+
+    /**
+     * From the audio focus being lost to it being regained.
+     */
+    static final String FOCUS_LOSS = "focusLoss";
+
+    /**
+     * From Bluetooth SCO being requested to it being connected, retries
+     * included.
+     */
+    static final String SCO_CONNECT = "scoConnect";
+
+    /**
+     * Counters.
+     */
+    static final String ROUTE_FAILURES = "routeFailures";
+    static final String SCO_RETRIES = "scoRetries";
+
+    /**
+     * Aggregated durations of a timing, in milliseconds.
+     */
+    static final class Timing {
+        int count;
+        long last;
+        long min;
+        long max;
+        long total;
+
+        private void add(long duration) {
+            if (count == 0 || duration < min) {
+                min = duration;
+            }
+            if (duration > max) {
+                max = duration;
+            }
+            count++;
+            last = duration;
+            total += duration;
+        }
+
+        long getAverage() {
+            return count == 0 ? 0 : total / count;
+        }
+
+        private Timing copy() {
+            Timing timing = new Timing();
+
+            timing.count = count;
+            timing.last = last;
+            timing.min = min;
+            timing.max = max;
+            timing.total = total;
+
+            return timing;
+        }
+    }
+
+    /**
+     * The begin time of the ongoing intervals, by timing name.
+     */
+    private final Map<String, Long> begins = new HashMap<>();
+
+    private final Map<String, Integer> counters = new LinkedHashMap<>();
+
+    private final Map<String, Timing> timings = new LinkedHashMap<>();
+
+    /**
+     * Begins an interval of the given timing. An ongoing one is started over.
+     */
+    synchronized void begin(String name, long now) {
+        begins.put(name, now);
+    }
+
+    /**
+     * Begins an interval of the given timing, unless there is an ongoing
+     * one already.
+     */
+    synchronized void beginIfIdle(String name, long now) {
+        if (!begins.containsKey(name)) {
+            begins.put(name, now);
+        }
+    }
+
+    /**
+     * Drops the ongoing interval of the given timing, if any.
+     */
+    synchronized void cancel(String name) {
+        begins.remove(name);
+    }
+
+    /**
+     * Ends the ongoing interval of the given timing, if any, and records its
+     * duration.
+     *
+     * @return the duration in milliseconds or -1 if there was no ongoing
+     * interval.
+     */
+    synchronized long end(String name, long now) {
+        Long begin = begins.remove(name);
+
+        if (begin == null) {
+            return -1;
+        }
+
+        long duration = now - begin;
+        Timing timing = timings.get(name);
+
+        if (timing == null) {
+            timing = new Timing();
+            timings.put(name, timing);
+        }
+        timing.add(duration);
+
+        return duration;
+    }
+
+    synchronized void increment(String name) {
+        Integer count = counters.get(name);
+
+        counters.put(name, count == null ? 1 : count + 1);
+    }
+
+    /**
+     * Gets a copy of the counters.
+     */
+    synchronized Map<String, Integer> getCounters() {
+        return new LinkedHashMap<>(counters);
+    }
+
+    /**
+     * Gets a copy of the timings.
+     */
+    synchronized Map<String, Timing> getTimings() {
+        Map<String, Timing> result = new LinkedHashMap<>();
+
+        for (Map.Entry<String, Timing> entry : timings.entrySet()) {
+            result.put(entry.getKey(), entry.getValue().copy());
+        }
+
+        return result;
+    }
+
+    /**
+     * Clears the collected metrics. Ongoing intervals are kept.
+     */
+    synchronized void reset() {
+        counters.clear();
+        timings.clear();
+    }
+}
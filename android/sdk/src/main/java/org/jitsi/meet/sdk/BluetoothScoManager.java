@@ -0,0 +1,382 @@
+/*
+ * Copyright @ 2026-present 8x8, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jitsi.meet.sdk;
+
+import android.content.BroadcastReceiver;
+import android.content.Context;
+import android.content.Intent;
+import android.content.IntentFilter;
+import android.media.AudioDeviceInfo;
+import android.media.AudioManager;
+import android.os.Build;
+import android.os.SystemClock;
+
+import androidx.annotation.RequiresApi;
+
+import org.jitsi.meet.sdk.log.JitsiMeetLogger;
+
+import java.util.concurrent.Executor;
+
+/**
+ * State machine for the Bluetooth SCO audio connection used by
+ * {@link AudioDeviceHandlerGeneric}. Connecting takes time, so the
+ * connection is only reported once it's actually up, and failed attempts are
+ * retried with an exponential backoff.
+ *
+ * On API level >= 31 the headset is made the communication device with
+ * {@link AudioManager#setCommunicationDevice(AudioDeviceInfo)}. On older
+ * versions SCO is started and its progress followed through the
+ * {@link AudioManager#ACTION_SCO_AUDIO_STATE_UPDATED} broadcasts.
+ *
+ * All the methods must be called on the audio thread, the listener is called
+ * on it too.
+ */
+class BluetoothScoManager {
+    private final static String TAG = BluetoothScoManager.class.getSimpleName();
+
+    /**
+     * How many times connecting is attempted before giving up.
+     */
+    private static final int MAX_ATTEMPTS = 4;
+
+    /**
+     * How long to wait for an attempt to succeed, in milliseconds.
+     */
+    private static final long CONNECT_TIMEOUT = 3000;
+
+    /**
+     * How long to wait before the first retry, in milliseconds. It's doubled
+     * for every further retry.
+     */
+    private static final long RETRY_DELAY = 500;
+
+    /**
+     * Connection states.
+     */
+    private static final int STATE_DISCONNECTED = 0;
+    private static final int STATE_CONNECTING   = 1;
+    private static final int STATE_RETRY_WAIT   = 2;
+    private static final int STATE_CONNECTED    = 3;
+
+    interface Listener {
+        /**
+         * Called when SCO audio is connected, after {@link #connect()}.
+         */
+        void onScoConnected();
+
+        /**
+         * Called when SCO audio couldn't be connected, or was lost and
+         * couldn't be connected again.
+         */
+        void onScoFailed();
+    }
+
+    private final AudioManager audioManager;
+
+    private final Listener listener;
+
+    private final AudioModeModule module;
+
+    /**
+     * The number of attempts since {@link #connect()} or since the
+     * connection was lost.
+     */
+    private int attempts;
+
+    /**
+     * Whether SCO has been reported as connecting during the current attempt.
+     * Until then a disconnected state is a leftover of a previous attempt.
+     */
+    private boolean scoConnecting;
+
+    private int state = STATE_DISCONNECTED;
+
+    /**
+     * Times out an attempt or starts the next one, depending on the state.
+     * Scheduling it again replaces the previous run.
+     */
+    private final Runnable timerRunner = new Runnable() {
+        @Override
+        public void run() {
+            if (state == STATE_CONNECTING) {
+                onAttemptFailed("timeout");
+            } else if (state == STATE_RETRY_WAIT) {
+                attempt();
+            }
+        }
+    };
+
+    private final BroadcastReceiver scoReceiver = new BroadcastReceiver() {
+        @Override
+        public void onReceive(Context context, Intent intent) {
+            // Skip the last state, which is delivered right away when
+            // registering.
+            if (isInitialStickyBroadcast()) {
+                return;
+            }
+
+            final int scoState
+                = intent.getIntExtra(AudioManager.EXTRA_SCO_AUDIO_STATE, AudioManager.SCO_AUDIO_STATE_ERROR);
+
+            module.runInAudioThread(new Runnable() {
+                @Override
+                public void run() {
+                    onScoAudioStateUpdated(scoState);
+                }
+            });
+        }
+    };
+
+    /**
+     * The {@code AudioManager.OnCommunicationDeviceChangedListener} in use on
+     * API level >= 31.
+     */
+    private Object communicationDeviceListener;
+
+    BluetoothScoManager(AudioManager audioManager, AudioModeModule module, Listener listener) {
+        this.audioManager = audioManager;
+        this.module = module;
+        this.listener = listener;
+    }
+
+    /**
+     * Starts following the SCO connection state.
+     */
+    void start(Context context) {
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.S) {
+            addCommunicationDeviceListener();
+        } else {
+            context.registerReceiver(scoReceiver, new IntentFilter(AudioManager.ACTION_SCO_AUDIO_STATE_UPDATED));
+        }
+    }
+
+    /**
+     * Disconnects and stops following the SCO connection state.
+     */
+    void stop(Context context) {
+        disconnect();
+
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.S) {
+            removeCommunicationDeviceListener();
+        } else {
+            context.unregisterReceiver(scoReceiver);
+        }
+    }
+
+    boolean isConnected() {
+        return state == STATE_CONNECTED;
+    }
+
+    /**
+     * Connects SCO audio, unless it's already connected or connecting. The
+     * listener is called once done.
+     */
+    void connect() {
+        if (state != STATE_DISCONNECTED) {
+            return;
+        }
+
+        attempts = 0;
+        module.getTelemetry().begin(AudioTelemetry.SCO_CONNECT, SystemClock.elapsedRealtime());
+        attempt();
+    }
+
+    /**
+     * Disconnects SCO audio, or stops connecting it.
+     */
+    void disconnect() {
+        if (state == STATE_DISCONNECTED) {
+            return;
+        }
+
+        JitsiMeetLogger.i(TAG + " Disconnecting SCO audio");
+
+        state = STATE_DISCONNECTED;
+        module.getTelemetry().cancel(AudioTelemetry.SCO_CONNECT);
+        release();
+    }
+
+    private void attempt() {
+        attempts++;
+        scoConnecting = false;
+        state = STATE_CONNECTING;
+
+        JitsiMeetLogger.i(TAG + " Connecting SCO audio, attempt " + attempts);
+
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.S) {
+            AudioDeviceInfo device = getScoDevice();
+
+            if (device == null) {
+                onAttemptFailed("no SCO device");
+                return;
+            }
+            if (isSco(audioManager.getCommunicationDevice())) {
+                onConnected();
+                return;
+            }
+            if (!audioManager.setCommunicationDevice(device)) {
+                onAttemptFailed("communication device refused");
+                return;
+            }
+        } else {
+            audioManager.startBluetoothSco();
+        }
+
+        module.runInAudioThreadCoalesced(timerRunner, CONNECT_TIMEOUT);
+    }
+
+    private void onAttemptFailed(String reason) {
+        release();
+
+        if (attempts >= MAX_ATTEMPTS) {
+            JitsiMeetLogger.w(TAG + " Failed to connect SCO audio: " + reason);
+            state = STATE_DISCONNECTED;
+            module.getTelemetry().cancel(AudioTelemetry.SCO_CONNECT);
+            listener.onScoFailed();
+            return;
+        }
+
+        long delay = RETRY_DELAY << (attempts - 1);
+
+        JitsiMeetLogger.w(TAG + " SCO audio attempt failed: " + reason + ", retrying in " + delay + "ms");
+
+        state = STATE_RETRY_WAIT;
+        module.getTelemetry().increment(AudioTelemetry.SCO_RETRIES);
+        module.runInAudioThreadCoalesced(timerRunner, delay);
+    }
+
+    private void onConnected() {
+        long duration = module.getTelemetry().end(AudioTelemetry.SCO_CONNECT, SystemClock.elapsedRealtime());
+
+        JitsiMeetLogger.i(TAG + " SCO audio connected in " + duration + "ms, " + attempts + " attempt(s)");
+
+        attempts = 0;
+        state = STATE_CONNECTED;
+
+        if (Build.VERSION.SDK_INT < Build.VERSION_CODES.S) {
+            // The speakerphone and SCO share the same forced communication
+            // route, the last call wins.
+            audioManager.setSpeakerphoneOn(false);
+            audioManager.setBluetoothScoOn(true);
+        }
+
+        listener.onScoConnected();
+    }
+
+    /**
+     * The connection was lost, e.g. the headset dropped the SCO link.
+     * Try to get it back, the device handler takes care of the headset
+     * being gone altogether.
+     */
+    private void onDisconnected() {
+        JitsiMeetLogger.w(TAG + " SCO audio lost");
+
+        attempts = 0;
+        state = STATE_RETRY_WAIT;
+        module.getTelemetry().begin(AudioTelemetry.SCO_CONNECT, SystemClock.elapsedRealtime());
+        release();
+        module.runInAudioThreadCoalesced(timerRunner, RETRY_DELAY);
+    }
+
+    private void onScoAudioStateUpdated(int scoState) {
+        JitsiMeetLogger.d(TAG + " SCO audio state: " + scoState);
+
+        switch (scoState) {
+            case AudioManager.SCO_AUDIO_STATE_CONNECTING:
+                scoConnecting = true;
+                break;
+            case AudioManager.SCO_AUDIO_STATE_CONNECTED:
+                if (state == STATE_CONNECTING) {
+                    onConnected();
+                }
+                break;
+            case AudioManager.SCO_AUDIO_STATE_DISCONNECTED:
+            case AudioManager.SCO_AUDIO_STATE_ERROR:
+                if (state == STATE_CONNECTING && scoConnecting) {
+                    onAttemptFailed("SCO audio state " + scoState);
+                } else if (state == STATE_CONNECTED) {
+                    onDisconnected();
+                }
+                break;
+        }
+    }
+
+    /**
+     * Undoes what the current attempt or connection did.
+     */
+    private void release() {
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.S) {
+            audioManager.clearCommunicationDevice();
+        } else {
+            audioManager.setBluetoothScoOn(false);
+            audioManager.stopBluetoothSco();
+        }
+    }
+
+    @RequiresApi(api = Build.VERSION_CODES.S)
+    private void addCommunicationDeviceListener() {
+        AudioManager.OnCommunicationDeviceChangedListener listener
+            = new AudioManager.OnCommunicationDeviceChangedListener() {
+                @Override
+                public void onCommunicationDeviceChanged(AudioDeviceInfo device) {
+                    JitsiMeetLogger.d(TAG + " Communication device: " + (device == null ? null : device.getType()));
+
+                    if (isSco(device)) {
+                        if (state == STATE_CONNECTING) {
+                            onConnected();
+                        }
+                    } else if (state == STATE_CONNECTED) {
+                        onDisconnected();
+                    }
+                }
+            };
+
+        audioManager.addOnCommunicationDeviceChangedListener(
+            new Executor() {
+                @Override
+                public void execute(Runnable command) {
+                    module.runInAudioThread(command);
+                }
+            },
+            listener);
+        communicationDeviceListener = listener;
+    }
+
+    @RequiresApi(api = Build.VERSION_CODES.S)
+    private void removeCommunicationDeviceListener() {
+        if (communicationDeviceListener != null) {
+            audioManager.removeOnCommunicationDeviceChangedListener(
+                (AudioManager.OnCommunicationDeviceChangedListener) communicationDeviceListener);
+            communicationDeviceListener = null;
+        }
+    }
+
+    @RequiresApi(api = Build.VERSION_CODES.S)
+    private AudioDeviceInfo getScoDevice() {
+        for (AudioDeviceInfo device : audioManager.getAvailableCommunicationDevices()) {
+            if (isSco(device)) {
+                return device;
+            }
+        }
+
+        return null;
+    }
+
+    private static boolean isSco(AudioDeviceInfo device) {
+        return device != null && device.getType() == AudioDeviceInfo.TYPE_BLUETOOTH_SCO;
+    }
+}
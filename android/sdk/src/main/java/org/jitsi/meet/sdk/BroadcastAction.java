@@ -3,6 +3,10 @@ package org.jitsi.meet.sdk;
 import android.content.Intent;
 import android.os.Bundle;
 
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
 /**
  * Wraps the name and extra data for events that were broadcasted locally.
  */
@@ -54,13 +58,29 @@ public class BroadcastAction {
             return action;
         }
 
-        private static Type buildTypeFromAction(String action) {
-            for (Type type : Type.values()) {
-                if (type.action.equalsIgnoreCase(action)) {
-                    return type;
-                }
+        /**
+         * The types by action and by lower case action, so that resolving
+         * the type of every received Intent is a lookup rather than a scan.
+         */
+        private static final Map<String, Type> typesByAction = new HashMap<>();
+        private static final Map<String, Type> typesByLowerCaseAction = new HashMap<>();
+
+        static {
+            for (Type type : values()) {
+                typesByAction.put(type.action, type);
+                typesByLowerCaseAction.put(type.action.toLowerCase(Locale.ROOT), type);
             }
-            return null;
+        }
+
+        static Type buildTypeFromAction(String action) {
+            if (action == null) {
+                return null;
+            }
+
+            Type type = typesByAction.get(action);
+
+            // Actions used to be matched ignoring the case.
+            return type != null ? type : typesByLowerCaseAction.get(action.toLowerCase(Locale.ROOT));
         }
     }
 }
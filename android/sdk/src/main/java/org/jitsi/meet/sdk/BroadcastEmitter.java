@@ -5,11 +5,19 @@ import android.content.Intent;
 
 import androidx.localbroadcastmanager.content.LocalBroadcastManager;
 
+import com.facebook.react.bridge.ReadableArray;
 import com.facebook.react.bridge.ReadableMap;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
 /**
  * Class used to emit events through the LocalBroadcastManager, called when events
- * from JS occurred. Takes an action name from JS, builds and broadcasts the {@link BroadcastEvent}
+ * from JS occurred. Takes an action name from JS, builds and broadcasts the {@link BroadcastEvent}.
+ * The event is also dispatched as is to the {@link JitsiMeetEventBus} listeners.
+ * Events without listeners or, see {@link BroadcastSubscriptions}, without
+ * subscribed receivers are dropped before being built.
  */
 public class BroadcastEmitter {
     private final LocalBroadcastManager localBroadcastManager;
@@ -19,12 +27,71 @@ public class BroadcastEmitter {
     }
 
     public void sendBroadcast(String name, ReadableMap data) {
-        BroadcastEvent event = new BroadcastEvent(name, data);
+        BroadcastEvent.Type type = BroadcastEvent.Type.buildTypeFromName(name);
+        JitsiMeetEventBus eventBus = JitsiMeetEventBus.getInstance();
+        boolean post = eventBus.hasListeners(type);
+        boolean broadcast = BroadcastSubscriptions.isBroadcast(type);
+
+        // Events nobody listens to aren't built at all.
+        if (!post && !broadcast) {
+            return;
+        }
+
+        BroadcastEvent event = new BroadcastEvent(type, data);
+
+        if (post) {
+            eventBus.post(event);
+        }
+
+        if (broadcast) {
+            Intent intent = event.buildIntent();
+
+            if (intent != null) {
+                localBroadcastManager.sendBroadcast(intent);
+            }
+        }
+    }
+
+    /**
+     * Emits a batch of events of the same type. {@link JitsiMeetEventBus}
+     * batch listeners get it at once, Intents are still broadcast one by one.
+     *
+     * @param name the name of the events.
+     * @param events the data of each event.
+     */
+    public void sendBroadcasts(String name, ReadableArray events) {
+        BroadcastEvent.Type type = BroadcastEvent.Type.buildTypeFromName(name);
+        JitsiMeetEventBus eventBus = JitsiMeetEventBus.getInstance();
+        boolean post = eventBus.hasListeners(type);
+        boolean broadcast = BroadcastSubscriptions.isBroadcast(type);
+
+        if (!post && !broadcast) {
+            return;
+        }
+
+        int size = events.size();
+        List<BroadcastEvent> batch = new ArrayList<>(size);
+
+        for (int i = 0; i < size; i++) {
+            ReadableMap data = events.getMap(i);
+
+            if (data != null) {
+                batch.add(new BroadcastEvent(type, data));
+            }
+        }
+
+        if (post) {
+            eventBus.post(type, Collections.unmodifiableList(batch));
+        }
 
-        Intent intent = event.buildIntent();
+        if (broadcast) {
+            for (BroadcastEvent event : batch) {
+                Intent intent = event.buildIntent();
 
-        if (intent != null) {
-            localBroadcastManager.sendBroadcast(intent);
+                if (intent != null) {
+                    localBroadcastManager.sendBroadcast(intent);
+                }
+            }
         }
     }
 }
@@ -8,6 +8,9 @@ import com.facebook.react.bridge.ReadableMap;
 import org.jitsi.meet.sdk.log.JitsiMeetLogger;
 
 import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 
 /**
  * Wraps the name and extra data for the events that occur on the JS side and are
@@ -17,34 +20,98 @@ public class BroadcastEvent {
 
     private static final String TAG = BroadcastEvent.class.getSimpleName();
 
+    /**
+     * The key of the event data which holds the originating view identifier.
+     */
+    static final String VIEW_ID = "viewId";
+
     private final Type type;
-    private final HashMap<String, Object> data;
+
+    /**
+     * The data of the event, built on first use from {@link #readableData} or
+     * {@link #extras}: most receivers only look at the type.
+     */
+    private HashMap<String, Object> data;
+    private ReadableMap readableData;
+    private Bundle extras;
 
     public BroadcastEvent(String name, ReadableMap data) {
-        this.type = Type.buildTypeFromName(name);
-        this.data = data.toHashMap();
+        this(Type.buildTypeFromName(name), data);
+    }
+
+    BroadcastEvent(Type type, ReadableMap data) {
+        this.type = type;
+        this.readableData = data;
+    }
+
+    BroadcastEvent(Type type, HashMap<String, Object> data) {
+        this.type = type;
+        this.data = data;
     }
 
     public BroadcastEvent(Intent intent) {
         this.type = Type.buildTypeFromAction(intent.getAction());
-        this.data = buildDataFromBundle(intent.getExtras());
+        this.extras = intent.getExtras();
     }
 
     public Type getType() {
         return this.type;
     }
 
-    public HashMap<String, Object> getData() {
+    /**
+     * Gets the data of the event. The same event may be handled on several
+     * threads, so it is built under the event's lock.
+     */
+    public synchronized HashMap<String, Object> getData() {
+        if (readableData != null) {
+            data = readableData.toHashMap();
+            readableData = null;
+        } else if (extras != null) {
+            data = buildDataFromBundle(extras);
+            extras = null;
+        }
+
         return this.data;
     }
 
+    /**
+     * Gets the identifier of the {@link JitsiMeetView} whose conference
+     * originated this event, without building the data of the event.
+     *
+     * @return the {@link JitsiMeetView#getViewId()} of the originating view or
+     * {@code null} if unknown.
+     */
+    public synchronized String getViewId() {
+        Object viewId = null;
+
+        if (readableData != null) {
+            viewId = readableData.hasKey(VIEW_ID) ? readableData.getString(VIEW_ID) : null;
+        } else if (extras != null) {
+            viewId = extras.get(VIEW_ID);
+        } else if (data != null) {
+            viewId = data.get(VIEW_ID);
+        }
+
+        return viewId != null ? viewId.toString() : null;
+    }
+
     public Intent buildIntent() {
         if (type != null && type.action != null) {
             Intent intent = new Intent(type.action);
 
-            for (String key : this.data.keySet()) {
+            HashMap<String, Object> data = getData();
+
+            for (String key : data.keySet()) {
                 try {
-                    intent.putExtra(key, this.data.get(key).toString());
+                    Object value = data.get(key);
+
+                    // Nested data, e.g. the participants info, as JSON which,
+                    // unlike its toString(), can be parsed back.
+                    if (value instanceof Map || value instanceof List) {
+                        intent.putExtra(key, JsonCodec.toJson(value));
+                    } else {
+                        intent.putExtra(key, value.toString());
+                    }
                 } catch (Exception e) {
                     JitsiMeetLogger.w(TAG + " invalid extra data in event", e);
                 }
@@ -83,6 +150,8 @@ public class BroadcastEvent {
         AUDIO_MUTED_CHANGED("org.jitsi.meet.AUDIO_MUTED_CHANGED"),
         PARTICIPANT_JOINED("org.jitsi.meet.PARTICIPANT_JOINED"),
         PARTICIPANT_LEFT("org.jitsi.meet.PARTICIPANT_LEFT"),
+        PARTICIPANT_UPDATED("org.jitsi.meet.PARTICIPANT_UPDATED"),
+        PARTICIPANTS_RESET("org.jitsi.meet.PARTICIPANTS_RESET"),
         ENDPOINT_TEXT_MESSAGE_RECEIVED("org.jitsi.meet.ENDPOINT_TEXT_MESSAGE_RECEIVED"),
         SCREEN_SHARE_TOGGLED("org.jitsi.meet.SCREEN_SHARE_TOGGLED"),
         PARTICIPANTS_INFO_RETRIEVED("org.jitsi.meet.PARTICIPANTS_INFO_RETRIEVED"),
@@ -95,26 +164,6 @@ public class BroadcastEvent {
         CONFERENCE_UNIQUE_ID_SET("org.jitsi.meet.CONFERENCE_UNIQUE_ID_SET"),
         RECORDING_STATUS_CHANGED("org.jitsi.meet.RECORDING_STATUS_CHANGED");
 
-        private static final String CONFERENCE_BLURRED_NAME = "CONFERENCE_BLURRED";
-        private static final String CONFERENCE_FOCUSED_NAME = "CONFERENCE_FOCUSED";
-        private static final String CONFERENCE_WILL_JOIN_NAME = "CONFERENCE_WILL_JOIN";
-        private static final String CONFERENCE_JOINED_NAME = "CONFERENCE_JOINED";
-        private static final String CONFERENCE_TERMINATED_NAME = "CONFERENCE_TERMINATED";
-        private static final String AUDIO_MUTED_CHANGED_NAME = "AUDIO_MUTED_CHANGED";
-        private static final String PARTICIPANT_JOINED_NAME = "PARTICIPANT_JOINED";
-        private static final String PARTICIPANT_LEFT_NAME = "PARTICIPANT_LEFT";
-        private static final String ENDPOINT_TEXT_MESSAGE_RECEIVED_NAME = "ENDPOINT_TEXT_MESSAGE_RECEIVED";
-        private static final String SCREEN_SHARE_TOGGLED_NAME = "SCREEN_SHARE_TOGGLED";
-        private static final String PARTICIPANTS_INFO_RETRIEVED_NAME = "PARTICIPANTS_INFO_RETRIEVED";
-        private static final String CHAT_MESSAGE_RECEIVED_NAME = "CHAT_MESSAGE_RECEIVED";
-        private static final String CHAT_TOGGLED_NAME = "CHAT_TOGGLED";
-        private static final String VIDEO_MUTED_CHANGED_NAME = "VIDEO_MUTED_CHANGED";
-        private static final String READY_TO_CLOSE_NAME = "READY_TO_CLOSE";
-        private static final String TRANSCRIPTION_CHUNK_RECEIVED_NAME = "TRANSCRIPTION_CHUNK_RECEIVED";
-        private static final String CUSTOM_BUTTON_PRESSED_NAME = "CUSTOM_BUTTON_PRESSED";
-        private static final String CONFERENCE_UNIQUE_ID_SET_NAME = "CONFERENCE_UNIQUE_ID_SET";
-        private static final String RECORDING_STATUS_CHANGED_NAME = "RECORDING_STATUS_CHANGED";
-
         private final String action;
 
         Type(String action) {
@@ -125,58 +174,39 @@ public class BroadcastEvent {
             return action;
         }
 
-        private static Type buildTypeFromAction(String action) {
-            for (Type type : Type.values()) {
-                if (type.action.equalsIgnoreCase(action)) {
-                    return type;
-                }
+        /**
+         * The types by action and by lower case action, so that resolving
+         * the type of every received Intent is a lookup rather than a scan.
+         */
+        private static final Map<String, Type> typesByAction = new HashMap<>();
+        private static final Map<String, Type> typesByLowerCaseAction = new HashMap<>();
+
+        /**
+         * The types by the event names used by JS, which are the type names.
+         */
+        private static final Map<String, Type> typesByName = new HashMap<>();
+
+        static {
+            for (Type type : values()) {
+                typesByAction.put(type.action, type);
+                typesByLowerCaseAction.put(type.action.toLowerCase(Locale.ROOT), type);
+                typesByName.put(type.name(), type);
             }
-            return null;
         }
 
-        private static Type buildTypeFromName(String name) {
-            switch (name) {
-                case CONFERENCE_BLURRED_NAME:
-                    return CONFERENCE_BLURRED;
-                case CONFERENCE_FOCUSED_NAME:
-                    return CONFERENCE_FOCUSED;
-                case CONFERENCE_WILL_JOIN_NAME:
-                    return CONFERENCE_WILL_JOIN;
-                case CONFERENCE_JOINED_NAME:
-                    return CONFERENCE_JOINED;
-                case CONFERENCE_TERMINATED_NAME:
-                    return CONFERENCE_TERMINATED;
-                case AUDIO_MUTED_CHANGED_NAME:
-                    return AUDIO_MUTED_CHANGED;
-                case PARTICIPANT_JOINED_NAME:
-                    return PARTICIPANT_JOINED;
-                case PARTICIPANT_LEFT_NAME:
-                    return PARTICIPANT_LEFT;
-                case ENDPOINT_TEXT_MESSAGE_RECEIVED_NAME:
-                    return ENDPOINT_TEXT_MESSAGE_RECEIVED;
-                case SCREEN_SHARE_TOGGLED_NAME:
-                    return SCREEN_SHARE_TOGGLED;
-                case PARTICIPANTS_INFO_RETRIEVED_NAME:
-                    return PARTICIPANTS_INFO_RETRIEVED;
-                case CHAT_MESSAGE_RECEIVED_NAME:
-                    return CHAT_MESSAGE_RECEIVED;
-                case CHAT_TOGGLED_NAME:
-                    return CHAT_TOGGLED;
-                case VIDEO_MUTED_CHANGED_NAME:
-                    return VIDEO_MUTED_CHANGED;
-                case READY_TO_CLOSE_NAME:
-                    return READY_TO_CLOSE;
-                case TRANSCRIPTION_CHUNK_RECEIVED_NAME:
-                    return TRANSCRIPTION_CHUNK_RECEIVED;
-                case CUSTOM_BUTTON_PRESSED_NAME:
-                    return CUSTOM_BUTTON_PRESSED;
-                case CONFERENCE_UNIQUE_ID_SET_NAME:
-                    return CONFERENCE_UNIQUE_ID_SET;
-                case RECORDING_STATUS_CHANGED_NAME:
-                    return RECORDING_STATUS_CHANGED;
+        static Type buildTypeFromAction(String action) {
+            if (action == null) {
+                return null;
             }
 
-            return null;
+            Type type = typesByAction.get(action);
+
+            // Actions used to be matched ignoring the case.
+            return type != null ? type : typesByLowerCaseAction.get(action.toLowerCase(Locale.ROOT));
+        }
+
+        static Type buildTypeFromName(String name) {
+            return typesByName.get(name);
         }
     }
 }
@@ -4,6 +4,21 @@ import android.content.Intent;
 import android.os.Bundle;
 
 public class BroadcastIntentHelper {
+    /**
+     * Targets the given action at the conference held in a specific
+     * {@link JitsiMeetView}. Actions which are not targeted are handled by
+     * all the views.
+     *
+     * @param intent the action intent, as built by any of the other methods.
+     * @param viewId the {@link JitsiMeetView#getViewId()} of the target view.
+     * @return the same intent.
+     */
+    public static Intent buildViewTargetedIntent(Intent intent, String viewId) {
+        intent.putExtra(BroadcastEvent.VIEW_ID, viewId);
+
+        return intent;
+    }
+
     public static Intent buildSetAudioMutedIntent(boolean muted) {
         Intent intent = new Intent(BroadcastAction.Type.SET_AUDIO_MUTED.getAction());
         intent.putExtra("muted", muted);
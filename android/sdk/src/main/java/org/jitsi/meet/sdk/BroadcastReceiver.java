@@ -9,22 +9,86 @@ import com.facebook.react.bridge.Arguments;
 
 import androidx.localbroadcastmanager.content.LocalBroadcastManager;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * Listens for {@link BroadcastAction}s on LocalBroadcastManager. When one occurs,
  * it emits it to JS.
+ *
+ * Only the actions JS listens to, as told by {@link #addListener(String)}, are
+ * received, so the others aren't converted for nothing.
  */
 public class BroadcastReceiver extends android.content.BroadcastReceiver {
+    private final LocalBroadcastManager localBroadcastManager;
+
+    /**
+     * The actions JS listens to.
+     */
+    private final Set<BroadcastAction.Type> types = EnumSet.noneOf(BroadcastAction.Type.class);
+
+    /**
+     * The number of JS listeners.
+     */
+    private int listenerCount;
+
+    private boolean registered;
 
     public BroadcastReceiver(Context context) {
-        LocalBroadcastManager localBroadcastManager = LocalBroadcastManager.getInstance(context);
+        localBroadcastManager = LocalBroadcastManager.getInstance(context);
+    }
+
+    /**
+     * Called when a JS listener is added for an action.
+     *
+     * @param action the action listened to.
+     */
+    synchronized void addListener(String action) {
+        BroadcastAction.Type type = BroadcastAction.Type.buildTypeFromAction(action);
+
+        if (type == null) {
+            return;
+        }
+
+        listenerCount++;
+        if (types.add(type)) {
+            register();
+        }
+    }
+
+    /**
+     * Called when JS listeners are removed. React Native doesn't tell for
+     * which actions, so the actions are only forgotten when there are no
+     * listeners left.
+     *
+     * @param count the number of removed listeners.
+     */
+    synchronized void removeListeners(int count) {
+        listenerCount = Math.max(0, listenerCount - count);
+        if (listenerCount == 0 && !types.isEmpty()) {
+            types.clear();
+            register();
+        }
+    }
+
+    private void register() {
+        if (registered) {
+            localBroadcastManager.unregisterReceiver(this);
+            registered = false;
+        }
+
+        if (types.isEmpty()) {
+            return;
+        }
 
         IntentFilter intentFilter = new IntentFilter();
 
-        for (BroadcastAction.Type type : BroadcastAction.Type.values()) {
+        for (BroadcastAction.Type type : types) {
             intentFilter.addAction(type.getAction());
         }
 
         localBroadcastManager.registerReceiver(this, intentFilter);
+        registered = true;
     }
 
     @Override
@@ -32,7 +96,7 @@ public class BroadcastReceiver extends android.content.BroadcastReceiver {
         BroadcastAction action = new BroadcastAction(intent);
         String actionName = action.getType().getAction();
         Bundle data = action.getData();
-            
+
         // For actions without data bundle (like hangup), we create an empty map
         // instead of attempting to convert a null bundle to avoid crashes.
         if (data != null) {
@@ -0,0 +1,161 @@
+/*
+ * Copyright @ 2026-present 8x8, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jitsi.meet.sdk;
+
+import android.content.BroadcastReceiver;
+import android.content.Context;
+import android.content.IntentFilter;
+
+import androidx.annotation.NonNull;
+import androidx.localbroadcastmanager.content.LocalBroadcastManager;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Declarative subscriptions to the {@link BroadcastEvent} Intents. Receivers
+ * registered here declare the event types they handle, so the SDK knows which
+ * events somebody listens to.
+ *
+ * Receivers may still be registered directly on the
+ * {@link LocalBroadcastManager}, the SDK can't know about them though, so by
+ * default every event is broadcast. Once all the receivers of the app are
+ * registered here, {@link #setSubscribedEventsOnly(boolean)} makes the SDK
+ * skip building and broadcasting the events nobody subscribed to.
+ */
+public final class BroadcastSubscriptions {
+    private static final Map<BroadcastReceiver, BroadcastEvent.Type[]> receivers = new HashMap<>();
+
+    private static final Map<BroadcastEvent.Type, Integer> counts
+        = new EnumMap<>(BroadcastEvent.Type.class);
+
+    /**
+     * The types with at least one subscribed receiver. Replaced, never
+     * modified, so that it can be read on every event without a lock.
+     */
+    private static volatile Set<BroadcastEvent.Type> subscribedTypes
+        = Collections.unmodifiableSet(EnumSet.noneOf(BroadcastEvent.Type.class));
+
+    private static volatile boolean subscribedEventsOnly;
+
+    private BroadcastSubscriptions() {
+    }
+
+    /**
+     * Registers a receiver on the {@link LocalBroadcastManager} for the given
+     * event types.
+     *
+     * @param context the {@link Context} to get the
+     * {@link LocalBroadcastManager} for.
+     * @param receiver the receiver to register.
+     * @param types the event types to receive, all of them if none.
+     */
+    public static synchronized void register(
+            @NonNull Context context,
+            @NonNull BroadcastReceiver receiver,
+            BroadcastEvent.Type... types) {
+        if (types.length == 0) {
+            types = BroadcastEvent.Type.values();
+        }
+
+        // A receiver registered twice gets the Intents twice, like with the
+        // LocalBroadcastManager, but is unregistered at once.
+        BroadcastEvent.Type[] registeredTypes = receivers.get(receiver);
+
+        if (registeredTypes != null) {
+            BroadcastEvent.Type[] allTypes = new BroadcastEvent.Type[registeredTypes.length + types.length];
+
+            System.arraycopy(registeredTypes, 0, allTypes, 0, registeredTypes.length);
+            System.arraycopy(types, 0, allTypes, registeredTypes.length, types.length);
+            receivers.put(receiver, allTypes);
+        } else {
+            receivers.put(receiver, types.clone());
+        }
+
+        IntentFilter intentFilter = new IntentFilter();
+
+        for (BroadcastEvent.Type type : types) {
+            Integer count = counts.get(type);
+
+            counts.put(type, count == null ? 1 : count + 1);
+            intentFilter.addAction(type.getAction());
+        }
+        updateSubscribedTypes();
+
+        LocalBroadcastManager.getInstance(context).registerReceiver(receiver, intentFilter);
+    }
+
+    /**
+     * Unregisters a receiver registered with {@link #register}.
+     *
+     * @param context the {@link Context} to get the
+     * {@link LocalBroadcastManager} for.
+     * @param receiver the receiver to unregister.
+     */
+    public static synchronized void unregister(@NonNull Context context, @NonNull BroadcastReceiver receiver) {
+        BroadcastEvent.Type[] types = receivers.remove(receiver);
+
+        if (types == null) {
+            return;
+        }
+
+        for (BroadcastEvent.Type type : types) {
+            int count = counts.get(type) - 1;
+
+            if (count == 0) {
+                counts.remove(type);
+            } else {
+                counts.put(type, count);
+            }
+        }
+        updateSubscribedTypes();
+
+        LocalBroadcastManager.getInstance(context).unregisterReceiver(receiver);
+    }
+
+    /**
+     * Sets whether only the event types receivers subscribed to with
+     * {@link #register} are broadcast. Off by default, as receivers
+     * registered directly on the {@link LocalBroadcastManager} would miss
+     * their events.
+     */
+    public static void setSubscribedEventsOnly(boolean subscribedEventsOnly) {
+        BroadcastSubscriptions.subscribedEventsOnly = subscribedEventsOnly;
+    }
+
+    public static boolean isSubscribedEventsOnly() {
+        return subscribedEventsOnly;
+    }
+
+    /**
+     * Checks whether the events of the given type are to be broadcast.
+     */
+    static boolean isBroadcast(BroadcastEvent.Type type) {
+        return type != null && (!subscribedEventsOnly || subscribedTypes.contains(type));
+    }
+
+    private static void updateSubscribedTypes() {
+        Set<BroadcastEvent.Type> types = EnumSet.noneOf(BroadcastEvent.Type.class);
+
+        types.addAll(counts.keySet());
+        subscribedTypes = Collections.unmodifiableSet(types);
+    }
+}
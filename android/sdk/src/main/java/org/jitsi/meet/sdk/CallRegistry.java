@@ -0,0 +1,401 @@
+/*
+ * Copyright @ 2026-present 8x8, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jitsi.meet.sdk;
+
+import com.facebook.react.bridge.Promise;
+
+import org.jitsi.meet.sdk.log.JitsiMeetLogger;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The calls of {@link ConnectionService}, mapped by call UUID. It's accessed
+ * from the telecom callbacks, the React Native bridge and the uncaught
+ * exception handler, so it's thread safe.
+ *
+ * Every call goes through the {@link State}s in order, transitions which
+ * don't follow it are refused, so late or duplicate requests (e.g. ending a
+ * call twice, or a connection created after its start call Promise timed out)
+ * are ignored instead of acting on the wrong call.
+ */
+final class CallRegistry {
+    private static final String TAG = ConnectionService.TAG;
+
+    /**
+     * How long to wait for the system to create the connection of a call
+     * before rejecting its start call Promise, in milliseconds.
+     */
+    static final long START_CALL_TIMEOUT = 10000;
+
+    /**
+     * The states of a call.
+     */
+    enum State {
+        /**
+         * The call was placed, its connection is yet to be created.
+         */
+        STARTING,
+
+        /**
+         * The connection was created.
+         */
+        CONNECTING,
+
+        /**
+         * The connection is active.
+         */
+        ACTIVE,
+
+        /**
+         * The call is over, or failed to start.
+         */
+        DISCONNECTED;
+
+        boolean canMoveTo(State state) {
+            switch (this) {
+                case STARTING:
+                    return state == CONNECTING || state == DISCONNECTED;
+                case CONNECTING:
+                    return state == ACTIVE || state == DISCONNECTED;
+                case ACTIVE:
+                    return state == DISCONNECTED;
+                default:
+                    return false;
+            }
+        }
+    }
+
+    private static final class Call {
+        ConnectionService.ConnectionImpl connection;
+
+        State state = State.STARTING;
+
+        Promise startCallPromise;
+
+        ScheduledFuture<?> startCallTimeout;
+    }
+
+    /**
+     * Executor for the start call timeouts.
+     */
+    private static final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+
+    private final ConcurrentHashMap<String, Call> calls = new ConcurrentHashMap<>();
+
+    /**
+     * The connections, in a list which is copied on (rare) writes only, so
+     * it can be iterated as a snapshot without copying or locking.
+     */
+    private final List<ConnectionService.ConnectionImpl> connections = new CopyOnWriteArrayList<>();
+
+    /**
+     * Adds a new call, waiting for its connection to be created. Its Promise
+     * is rejected if that doesn't happen in {@link #START_CALL_TIMEOUT}.
+     *
+     * @param uuid the call UUID.
+     * @param promise the start call Promise, resolved once the connection is
+     * created.
+     * @return {@code true} if the call was added; {@code false} if there is
+     * an ongoing call with the same UUID, in which case the Promise is
+     * rejected.
+     */
+    boolean addStartingCall(final String uuid, Promise promise) {
+        Call previousCall = calls.get(uuid);
+
+        if (previousCall != null) {
+            synchronized (previousCall) {
+                if (previousCall.state == State.CONNECTING || previousCall.state == State.ACTIVE) {
+                    promise.reject("CALL_ALREADY_EXISTS", "There's already a call with the same UUID");
+                    return false;
+                }
+            }
+        }
+
+        final Call call = new Call();
+
+        previousCall = calls.put(uuid, call);
+
+        if (previousCall != null) {
+            JitsiMeetLogger.w(TAG + " Call started again: " + uuid);
+            Promise previousPromise = takeStartCallPromise(previousCall);
+
+            if (previousPromise != null) {
+                previousPromise.reject("START_CALL_SUPERSEDED", "The call was started again");
+            }
+        }
+
+        synchronized (call) {
+            call.startCallPromise = promise;
+            call.startCallTimeout = scheduler.schedule(new Runnable() {
+                @Override
+                public void run() {
+                    onStartCallTimeout(uuid, call);
+                }
+            }, START_CALL_TIMEOUT, TimeUnit.MILLISECONDS);
+        }
+
+        return true;
+    }
+
+    /**
+     * Removes a call which failed to start.
+     *
+     * @param uuid the call UUID.
+     * @return its start call Promise, if not settled yet, or {@code null}.
+     */
+    Promise removeStartingCall(String uuid) {
+        Call call = calls.get(uuid);
+
+        if (call == null) {
+            return null;
+        }
+
+        synchronized (call) {
+            if (call.state != State.STARTING) {
+                return null;
+            }
+            call.state = State.DISCONNECTED;
+        }
+        calls.remove(uuid, call);
+
+        return takeStartCallPromise(call);
+    }
+
+    /**
+     * Adds the connection created for a call.
+     *
+     * @param connection the new connection.
+     * @return {@code true} if the call was waiting for it; {@code false} if
+     * it is unknown or not starting anymore, in which case the connection is
+     * not added.
+     */
+    boolean addConnection(ConnectionService.ConnectionImpl connection) {
+        String uuid = connection.getCallUUID();
+        Call call = calls.get(uuid);
+
+        if (call == null) {
+            JitsiMeetLogger.w(TAG + " Connection created for an unknown call: " + uuid);
+            return false;
+        }
+
+        synchronized (call) {
+            if (!moveTo(uuid, call, State.CONNECTING)) {
+                return false;
+            }
+            call.connection = connection;
+        }
+        connections.add(connection);
+
+        return true;
+    }
+
+    /**
+     * Takes the start call Promise of a call, so that it's settled once only.
+     *
+     * @param uuid the call UUID.
+     * @return the Promise or {@code null} if there is none or it was taken
+     * already.
+     */
+    Promise takeStartCallPromise(String uuid) {
+        Call call = calls.get(uuid);
+
+        return call == null ? null : takeStartCallPromise(call);
+    }
+
+    /**
+     * Gets the connection of a call, unless the call is over.
+     *
+     * @param uuid the call UUID.
+     * @return the connection or {@code null}.
+     */
+    ConnectionService.ConnectionImpl getConnection(String uuid) {
+        Call call = calls.get(uuid);
+
+        if (call == null) {
+            return null;
+        }
+
+        synchronized (call) {
+            return call.state == State.DISCONNECTED ? null : call.connection;
+        }
+    }
+
+    /**
+     * Gets the connections. Iterating them works on a snapshot, so calls can
+     * be added or removed meanwhile, e.g. by aborting them.
+     *
+     * @return a read only view of the connections.
+     */
+    List<ConnectionService.ConnectionImpl> getConnections() {
+        return Collections.unmodifiableList(connections);
+    }
+
+    /**
+     * Marks a call as active.
+     *
+     * @param uuid the call UUID.
+     * @return the connection to activate or {@code null} if the call is
+     * unknown or can't be activated.
+     */
+    ConnectionService.ConnectionImpl setActive(String uuid) {
+        Call call = calls.get(uuid);
+
+        if (call == null) {
+            return null;
+        }
+
+        synchronized (call) {
+            if (call.state == State.ACTIVE) {
+                return call.connection;
+            }
+
+            return moveTo(uuid, call, State.ACTIVE) ? call.connection : null;
+        }
+    }
+
+    /**
+     * Marks a call as disconnected. Only the first request to disconnect a
+     * call succeeds.
+     *
+     * @param uuid the call UUID.
+     * @return the connection to disconnect or {@code null} if the call is
+     * unknown, has no connection or is disconnected already.
+     */
+    ConnectionService.ConnectionImpl setDisconnected(String uuid) {
+        Call call = calls.get(uuid);
+
+        if (call == null) {
+            return null;
+        }
+
+        ConnectionService.ConnectionImpl connection;
+
+        synchronized (call) {
+            if (!moveTo(uuid, call, State.DISCONNECTED)) {
+                return null;
+            }
+            connection = call.connection;
+        }
+
+        if (connection == null) {
+            // Ended before its connection was created.
+            Promise promise = takeStartCallPromise(call);
+
+            if (promise != null) {
+                promise.reject("CALL_ENDED", "The call was ended before it started");
+            }
+            scheduleRemoval(uuid, call);
+        }
+
+        return connection;
+    }
+
+    /**
+     * Removes the connection of a call, once it's disconnected.
+     *
+     * @param connection the connection to remove.
+     */
+    void removeConnection(ConnectionService.ConnectionImpl connection) {
+        String uuid = connection.getCallUUID();
+        Call call = calls.get(uuid);
+
+        if (call != null) {
+            synchronized (call) {
+                if (call.connection != connection) {
+                    call = null;
+                } else {
+                    call.state = State.DISCONNECTED;
+                }
+            }
+            if (call != null) {
+                calls.remove(uuid, call);
+            }
+        }
+        connections.remove(connection);
+    }
+
+    /**
+     * Moves a call to a new state, if allowed. Must be called with the call
+     * locked.
+     */
+    private static boolean moveTo(String uuid, Call call, State state) {
+        if (!call.state.canMoveTo(state)) {
+            JitsiMeetLogger.w("%s Call %s can't go from %s to %s", TAG, uuid, call.state, state);
+            return false;
+        }
+        call.state = state;
+
+        return true;
+    }
+
+    private void onStartCallTimeout(String uuid, Call call) {
+        synchronized (call) {
+            if (call.state != State.STARTING) {
+                return;
+            }
+            call.state = State.DISCONNECTED;
+        }
+
+        JitsiMeetLogger.w(TAG + " Start call timed out: " + uuid);
+
+        Promise promise = takeStartCallPromise(call);
+
+        if (promise != null) {
+            promise.reject("START_CALL_TIMEOUT", "The system didn't create the call in time");
+        }
+
+        scheduleRemoval(uuid, call);
+    }
+
+    /**
+     * Forgets a call which never got a connection after a while. Until then
+     * a connection still created for it is refused.
+     */
+    private void scheduleRemoval(final String uuid, final Call call) {
+        scheduler.schedule(new Runnable() {
+            @Override
+            public void run() {
+                calls.remove(uuid, call);
+            }
+        }, START_CALL_TIMEOUT, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Takes the start call Promise of a call, so that it's settled once only,
+     * and cancels its timeout.
+     */
+    private static Promise takeStartCallPromise(Call call) {
+        synchronized (call) {
+            Promise promise = call.startCallPromise;
+
+            call.startCallPromise = null;
+            if (call.startCallTimeout != null) {
+                call.startCallTimeout.cancel(false);
+                call.startCallTimeout = null;
+            }
+
+            return promise;
+        }
+    }
+}
@@ -22,10 +22,7 @@ import com.facebook.react.bridge.WritableNativeMap;
 
 import org.jitsi.meet.sdk.log.JitsiMeetLogger;
 
-import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.Objects;
 
 /**
@@ -53,16 +50,10 @@ public class ConnectionService extends android.telecom.ConnectionService {
         = "org.jitsi.meet.sdk.connection_service.PHONE_ACCOUNT_HANDLE";
 
     /**
-     * Connections mapped by call UUID.
+     * The calls with their connections and start call Promises, mapped by
+     * call UUID.
      */
-    static private final Map<String, ConnectionImpl> connections
-            = new HashMap<>();
-
-    /**
-     * The start call Promises mapped by call UUID.
-     */
-    static private final HashMap<String, Promise> startCallPromises
-            = new HashMap<>();
+    static private final CallRegistry calls = new CallRegistry();
 
     /**
      * Aborts all ongoing connections. This is a last resort mechanism which forces all resources to
@@ -74,22 +65,14 @@ public class ConnectionService extends android.telecom.ConnectionService {
         }
     }
 
-    /**
-     * Adds {@link ConnectionImpl} to the list.
-     *
-     * @param connection - {@link ConnectionImpl}
-     */
-    static void addConnection(ConnectionImpl connection) {
-        connections.put(connection.getCallUUID(), connection);
-    }
-
     /**
      * Returns all {@link ConnectionImpl} instances held in this list.
      *
-     * @return a list of {@link ConnectionImpl}.
+     * @return a read only list of {@link ConnectionImpl}, which can be
+     * iterated while connections are added or removed.
      */
     static List<ConnectionImpl> getConnections() {
-        return new ArrayList<>(connections.values());
+        return calls.getConnections();
     }
 
     /**
@@ -100,22 +83,16 @@ public class ConnectionService extends android.telecom.ConnectionService {
     }
 
     /**
-     * Registers a start call promise.
+     * Registers a start call promise. It's rejected if the system doesn't
+     * create the connection in time.
      *
      * @param uuid - the call UUID to which the start call promise belongs to.
      * @param promise - the Promise instance to be stored for later use.
+     * @return {@code false} if there's an ongoing call with the same UUID, in
+     * which case the promise has been rejected.
      */
-    static void registerStartCallPromise(String uuid, Promise promise) {
-        startCallPromises.put(uuid, promise);
-    }
-
-    /**
-     * Removes {@link ConnectionImpl} from the list.
-     *
-     * @param connection - {@link ConnectionImpl}
-     */
-    static void removeConnection(ConnectionImpl connection) {
-        connections.remove(connection.getCallUUID());
+    static boolean registerStartCallPromise(String uuid, Promise promise) {
+        return calls.addStartingCall(uuid, promise);
     }
 
     /**
@@ -126,7 +103,7 @@ public class ConnectionService extends android.telecom.ConnectionService {
      * @return Whether the connection was set as active or not.
      */
     static boolean setConnectionActive(String callUUID) {
-        ConnectionImpl connection = connections.get(callUUID);
+        ConnectionImpl connection = calls.setActive(callUUID);
 
         if (connection != null) {
             connection.setActive();
@@ -145,7 +122,7 @@ public class ConnectionService extends android.telecom.ConnectionService {
      * @param cause disconnection reason.
      */
     static void setConnectionDisconnected(String callUUID, DisconnectCause cause) {
-        ConnectionImpl connection = connections.get(callUUID);
+        ConnectionImpl connection = calls.setDisconnected(callUUID);
 
         if (connection != null) {
             if (isSamsungDevice()) {
@@ -169,8 +146,8 @@ public class ConnectionService extends android.telecom.ConnectionService {
     }
 
     /**
-     * Unregisters a start call promise. Must be called after the Promise is
-     * rejected or resolved.
+     * Unregisters the start call promise of a call which failed to start.
+     * Must be called after the Promise is rejected or resolved.
      *
      * @param uuid the call UUID which identifies the call to which the promise
      *        belongs to.
@@ -178,7 +155,7 @@ public class ConnectionService extends android.telecom.ConnectionService {
      *         wasn't any for the given call UUID.
      */
     static Promise unregisterStartCallPromise(String uuid) {
-        return startCallPromises.remove(uuid);
+        return calls.removeStartingCall(uuid);
     }
 
     /**
@@ -189,7 +166,7 @@ public class ConnectionService extends android.telecom.ConnectionService {
      *        "KEY_*" constants in {@link ConnectionImpl} for the list of keys.
      */
     static void updateCall(String callUUID, ReadableMap callState) {
-        ConnectionImpl connection = connections.get(callUUID);
+        ConnectionImpl connection = calls.getConnection(callUUID);
 
         if (connection != null) {
             if (callState.hasKey(ConnectionImpl.KEY_HAS_VIDEO)) {
@@ -233,10 +210,17 @@ public class ConnectionService extends android.telecom.ConnectionService {
             Objects.requireNonNull(request.getAccountHandle(), "accountHandle"));
         connection.putExtras(moreExtras);
 
-        addConnection(connection);
+        if (!calls.addConnection(connection)) {
+            // The start call Promise timed out, or the call was ended
+            // meanwhile. Nobody is going to end this one.
+            JitsiMeetLogger.w(TAG + " onCreateOutgoingConnection: dropping " + connection.getCallUUID());
+            unregisterPhoneAccount(request.getAccountHandle());
+
+            return Connection.createFailedConnection(new DisconnectCause(DisconnectCause.CANCELED));
+        }
 
         Promise startCallPromise
-            = unregisterStartCallPromise(connection.getCallUUID());
+            = calls.takeStartCallPromise(connection.getCallUUID());
 
         if (startCallPromise != null) {
             JitsiMeetLogger.d(TAG + " onCreateOutgoingConnection " + connection.getCallUUID());
@@ -423,7 +407,7 @@ public class ConnectionService extends android.telecom.ConnectionService {
                 "%s onStateChanged: %s %s", TAG, Connection.stateToString(state), getCallUUID());
 
             if (state == STATE_DISCONNECTED) {
-                removeConnection(this);
+                calls.removeConnection(this);
                 unregisterPhoneAccount(getPhoneAccountHandle());
             }
         }
@@ -19,6 +19,7 @@ package org.jitsi.meet.sdk;
 import com.facebook.react.bridge.ReactApplicationContext;
 import com.facebook.react.bridge.ReactContextBaseJavaModule;
 import com.facebook.react.bridge.ReactMethod;
+import com.facebook.react.bridge.ReadableArray;
 import com.facebook.react.bridge.ReadableMap;
 import com.facebook.react.module.annotations.ReactModule;
 
@@ -56,14 +57,18 @@ class ExternalAPIModule extends ReactContextBaseJavaModule {
         ParticipantsService.init(reactContext);
     }
 
+    /**
+     * Called by the React Native event emitter when JS listens to an event,
+     * so that only the actions JS listens to are received.
+     */
     @ReactMethod
     public void addListener(String eventName) {
-        // Keep: Required for RN built in Event Emitter Calls.
+        broadcastReceiver.addListener(eventName);
     }
 
     @ReactMethod
     public void removeListeners(Integer count) {
-        // Keep: Required for RN built in Event Emitter Calls.
+        broadcastReceiver.removeListeners(count);
     }
 
     /**
@@ -119,8 +124,25 @@ class ExternalAPIModule extends ReactContextBaseJavaModule {
     public void sendEvent(String name, ReadableMap data) {
         // Keep track of the current ongoing conference.
         OngoingConferenceTracker.getInstance().onExternalAPIEvent(name, data);
+        ParticipantRoster.getInstance().onExternalAPIEvent(name, data);
 
         JitsiMeetLogger.d(TAG + " Sending event: " + name + " with data: " + data);
         broadcastEmitter.sendBroadcast(name, data);
     }
+
+    /**
+     * Dispatches a batch of events of the same type, see
+     * {@link BroadcastEmitter#sendBroadcasts}. Only the high frequency events,
+     * chat messages, endpoint text messages and transcription chunks, are
+     * batched, none of which matters to {@link OngoingConferenceTracker}. They
+     * aren't logged in full either.
+     *
+     * @param name The name of the events.
+     * @param events The data of each event.
+     */
+    @ReactMethod
+    public void sendEvents(String name, ReadableArray events) {
+        JitsiMeetLogger.d(TAG + " Sending " + events.size() + " events: " + name);
+        broadcastEmitter.sendBroadcasts(name, events);
+    }
 }
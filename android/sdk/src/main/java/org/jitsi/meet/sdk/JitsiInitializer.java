@@ -17,6 +17,9 @@ package org.jitsi.meet.sdk;
 
 import android.app.Application;
 import android.content.Context;
+import android.content.pm.ApplicationInfo;
+import android.content.pm.PackageManager;
+import android.os.Bundle;
 import android.util.Log;
 
 import androidx.annotation.NonNull;
@@ -24,6 +27,8 @@ import androidx.startup.Initializer;
 
 import com.facebook.soloader.SoLoader;
 import com.facebook.react.soloader.OpenSourceMergedSoMapping;
+
+import org.jitsi.meet.sdk.trace.StartupTracer;
 import org.wonday.orientation.OrientationActivityLifecycle;
 
 import java.io.IOException;
@@ -32,26 +37,59 @@ import java.util.List;
 
 public class JitsiInitializer implements Initializer<Boolean> {
 
+    /**
+     * Name of the application manifest meta-data which, when set to
+     * {@code true}, makes the SDK pre-warm itself at application startup. See
+     * {@link JitsiMeet#prewarm(Context)}.
+     */
+    public static final String PREWARM_META_DATA = "org.jitsi.meet.sdk.PREWARM";
+
     @NonNull
     @Override
     public Boolean create(@NonNull Context context) {
         Log.d(this.getClass().getCanonicalName(), "create");
 
+        StartupTracer.begin("SoLoader.init");
         try {
             SoLoader.init(context, OpenSourceMergedSoMapping.INSTANCE);
         } catch (IOException e) {
             throw new RuntimeException(e);
+        } finally {
+            StartupTracer.end("SoLoader.init");
         }
 
+        // Record the React Native bridge startup phases.
+        StartupTracer.addReactMarkerListener();
+
         // Register our uncaught exception handler.
         JitsiMeetUncaughtExceptionHandler.register();
 
         // Register activity lifecycle handler for the orientation locker module.
         ((Application) context).registerActivityLifecycleCallbacks(OrientationActivityLifecycle.getInstance());
 
+        if (isPrewarmEnabled(context)) {
+            JitsiMeet.prewarm(context);
+        }
+
         return true;
     }
 
+    /**
+     * Checks if pre-warming was requested through the application manifest.
+     */
+    private static boolean isPrewarmEnabled(Context context) {
+        try {
+            ApplicationInfo applicationInfo
+                = context.getPackageManager().getApplicationInfo(
+                    context.getPackageName(), PackageManager.GET_META_DATA);
+            Bundle metaData = applicationInfo.metaData;
+
+            return metaData != null && metaData.getBoolean(PREWARM_META_DATA, false);
+        } catch (PackageManager.NameNotFoundException e) {
+            return false;
+        }
+    }
+
     @NonNull
     @Override
     public List<Class<? extends Initializer<?>>> dependencies() {
@@ -16,15 +16,20 @@
 package org.jitsi.meet.sdk;
 
 import android.app.Activity;
+import android.app.Application;
 import android.content.Context;
 import android.content.SharedPreferences;
 import android.os.Bundle;
+import android.util.Log;
 
 import com.facebook.react.ReactInstanceManager;
+import com.facebook.react.bridge.UiThreadUtil;
 
 import com.splashview.SplashView;
 import org.jitsi.meet.sdk.log.JitsiMeetLogger;
 
+import java.util.Collection;
+
 public class JitsiMeet {
 
     /**
@@ -34,6 +39,12 @@ public class JitsiMeet {
      */
     private static JitsiMeetConferenceOptions defaultConferenceOptions;
 
+    /**
+     * The maximum number of {@link JitsiMeetView}s which can be in a conference
+     * at the same time. All of them share a single React Native instance.
+     */
+    private static int maxConcurrentConferences = 3;
+
     public static JitsiMeetConferenceOptions getDefaultConferenceOptions() {
         return defaultConferenceOptions;
     }
@@ -54,6 +65,54 @@ public class JitsiMeet {
         return OngoingConferenceTracker.getInstance().getCurrentConference();
     }
 
+    /**
+     * Returns the URLs of all the conferences currently held, one per
+     * {@link JitsiMeetView}.
+     *
+     * @return the current conference URLs.
+     */
+    public static Collection<String> getCurrentConferences() {
+        return OngoingConferenceTracker.getInstance().getCurrentConferences();
+    }
+
+    public static int getMaxConcurrentConferences() {
+        return maxConcurrentConferences;
+    }
+
+    /**
+     * Sets the maximum number of {@link JitsiMeetView}s which can be in a
+     * conference at the same time. Every conference costs CPU, memory and
+     * bandwidth, even though all of them share a single JavaScript runtime.
+     *
+     * @param max - The maximum number of concurrent conferences, at least 1.
+     */
+    public static void setMaxConcurrentConferences(int max) {
+        if (max < 1) {
+            throw new IllegalArgumentException("At least 1 conference must be allowed");
+        }
+        maxConcurrentConferences = max;
+    }
+
+    public static int getJSLogLevel() {
+        return LogBridgeModule.getMinPriority();
+    }
+
+    /**
+     * Sets the minimum priority of the JS logs, lower ones are dropped in JS
+     * before they cross the bridge. JS reads it when it starts, so it should be
+     * set before the first {@link JitsiMeetView} is created. Later changes only
+     * filter the logs on the native side until JS is restarted.
+     *
+     * @param priority - One of the {@link Log} priorities, {@link Log#VERBOSE}
+     * by default.
+     */
+    public static void setJSLogLevel(int priority) {
+        if (priority < Log.VERBOSE || priority > Log.ASSERT) {
+            throw new IllegalArgumentException("Invalid log priority: " + priority);
+        }
+        LogBridgeModule.setMinPriority(priority);
+    }
+
     /**
      * Helper to get the default conference options as a {@link Bundle}.
      *
@@ -79,6 +138,45 @@ public class JitsiMeet {
         }
     }
 
+    /**
+     * Pre-warms the SDK so joining the first conference is faster: the WebRTC
+     * EGL context and codec factories are created on a background thread, and
+     * then the React Native instance is created and the JavaScript bundle
+     * loaded, also in the background. The first {@link JitsiMeetView} will
+     * attach to the already running instance.
+     *
+     * This is opt-in. It can be called explicitly, typically from
+     * {@code Application#onCreate}, or automatically at startup by adding the
+     * {@link JitsiInitializer#PREWARM_META_DATA} meta-data to the application
+     * manifest.
+     *
+     * @param context - The {@link Context} whose {@link Application} the React
+     *                Native instance will be bound to.
+     */
+    public static void prewarm(Context context) {
+        final Application application = (Application) context.getApplicationContext();
+
+        new Thread(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    ReactInstanceManagerHolder.initWebRTCModuleOptions();
+                } catch (Throwable t) {
+                    // Not fatal, it will be retried when the React Native
+                    // instance gets initialized.
+                    JitsiMeetLogger.w(t, "Failed to pre-warm WebRTC");
+                }
+
+                UiThreadUtil.runOnUiThread(new Runnable() {
+                    @Override
+                    public void run() {
+                        ReactInstanceManagerHolder.prewarmReactInstanceManager(application);
+                    }
+                });
+            }
+        }, "JitsiMeetPrewarm").start();
+    }
+
     public static boolean isCrashReportingDisabled(Context context) {
         SharedPreferences preferences = context.getSharedPreferences("jitsi-default-preferences", Context.MODE_PRIVATE);
         String value = preferences.getString("isCrashReportingDisabled", "");
@@ -21,7 +21,6 @@ import android.app.Activity;
 import android.content.BroadcastReceiver;
 import android.content.Context;
 import android.content.Intent;
-import android.content.IntentFilter;
 import android.content.res.Configuration;
 import android.net.Uri;
 import android.os.Bundle;
@@ -30,12 +29,12 @@ import android.widget.Toast;
 
 import androidx.annotation.Nullable;
 import androidx.appcompat.app.AppCompatActivity;
-import androidx.localbroadcastmanager.content.LocalBroadcastManager;
 
 import com.facebook.react.modules.core.PermissionListener;
 import com.oney.WebRTCModule.CameraCaptureController;
 
 import org.jitsi.meet.sdk.log.JitsiMeetLogger;
+import org.jitsi.meet.sdk.trace.StartupTracer;
 
 import java.util.HashMap;
 
@@ -108,6 +107,8 @@ public class JitsiMeetActivity extends AppCompatActivity
 
     @Override
     protected void onCreate(Bundle savedInstanceState) {
+        StartupTracer.mark("JitsiMeetActivity.onCreate");
+
         super.onCreate(savedInstanceState);
 
         setContentView(R.layout.activity_jitsi_meet);
@@ -156,7 +157,7 @@ public class JitsiMeetActivity extends AppCompatActivity
         }
         JitsiMeetOngoingConferenceService.abort(this);
 
-        LocalBroadcastManager.getInstance(this).unregisterReceiver(broadcastReceiver);
+        BroadcastSubscriptions.unregister(this, broadcastReceiver);
 
         JitsiMeetActivityDelegate.onHostDestroy(this);
 
@@ -355,13 +356,15 @@ public class JitsiMeetActivity extends AppCompatActivity
     }
 
     private void registerForBroadcastMessages() {
-        IntentFilter intentFilter = new IntentFilter();
-
-        for (BroadcastEvent.Type type : BroadcastEvent.Type.values()) {
-            intentFilter.addAction(type.getAction());
-        }
-
-        LocalBroadcastManager.getInstance(this).registerReceiver(broadcastReceiver, intentFilter);
+        BroadcastSubscriptions.register(
+            this,
+            broadcastReceiver,
+            BroadcastEvent.Type.CONFERENCE_JOINED,
+            BroadcastEvent.Type.CONFERENCE_WILL_JOIN,
+            BroadcastEvent.Type.CONFERENCE_TERMINATED,
+            BroadcastEvent.Type.PARTICIPANT_JOINED,
+            BroadcastEvent.Type.PARTICIPANT_LEFT,
+            BroadcastEvent.Type.READY_TO_CLOSE);
     }
 
     private void setupZoomGestureDetector() {
@@ -403,6 +406,13 @@ public class JitsiMeetActivity extends AppCompatActivity
         if (intent != null) {
             BroadcastEvent event = new BroadcastEvent(intent);
 
+            // Other views, hosted elsewhere, may share the same React Native
+            // instance. Only handle the events of our own view.
+            String viewId = event.getViewId();
+            if (viewId != null && jitsiView != null && !viewId.equals(jitsiView.getViewId())) {
+                return;
+            }
+
             switch (event.getType()) {
                 case CONFERENCE_JOINED:
                     onConferenceJoined(event.getData());
@@ -0,0 +1,283 @@
+/*
+ * Copyright @ 2026-present 8x8, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jitsi.meet.sdk;
+
+import android.os.Handler;
+import android.os.Looper;
+
+import androidx.annotation.NonNull;
+
+import org.jitsi.meet.sdk.log.JitsiMeetLogger;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+
+/**
+ * In-process bus for the SDK events, an alternative to listening for the
+ * {@link BroadcastEvent} Intents. Listeners are registered directly, for the
+ * event types they care about, and get the {@link BroadcastEvent} itself: its
+ * data keeps the types it had in JS (numbers, booleans, nested maps and
+ * arrays) instead of being turned into strings.
+ *
+ * Every event is also broadcast as an Intent, as before, so both ways can be
+ * used at the same time.
+ *
+ * High frequency events (chat messages, endpoint text messages and
+ * transcription chunks) may come in batches, see the
+ * {@code event-batching.enabled} feature flag. A {@link BatchListener} gets a
+ * batch in a single call, a {@link Listener} gets its events one by one
+ * through a {@link PerEventListener}.
+ *
+ * The same {@link BroadcastEvent} instance is delivered to all the listeners,
+ * which must not modify its data.
+ */
+public final class JitsiMeetEventBus {
+    private static final String TAG = JitsiMeetEventBus.class.getSimpleName();
+
+    private static final JitsiMeetEventBus instance = new JitsiMeetEventBus();
+
+    /**
+     * Listener for the SDK events.
+     */
+    public interface Listener {
+        /**
+         * Called for every event of the types the listener was added for, on
+         * the listener's {@link Executor}.
+         *
+         * @param event the event. Its data must not be modified.
+         */
+        void onEvent(BroadcastEvent event);
+    }
+
+    /**
+     * Listener for batches of SDK events.
+     */
+    public interface BatchListener {
+        /**
+         * Called for every batch of events of the types the listener was
+         * added for, on the listener's {@link Executor}. Events which aren't
+         * batched come in batches of one.
+         *
+         * @param events the events, all of the same type, in the order they
+         * occurred. Neither the list nor the events' data must be modified.
+         */
+        void onEvents(List<BroadcastEvent> events);
+    }
+
+    /**
+     * Adapts a {@link Listener} to batches, by calling it for each event of a
+     * batch in turn.
+     */
+    public static final class PerEventListener implements BatchListener {
+        private final Listener listener;
+
+        public PerEventListener(@NonNull Listener listener) {
+            this.listener = listener;
+        }
+
+        @Override
+        public void onEvents(List<BroadcastEvent> events) {
+            for (BroadcastEvent event : events) {
+                // A failing event mustn't drop the rest of the batch.
+                try {
+                    listener.onEvent(event);
+                } catch (Throwable tr) {
+                    JitsiMeetLogger.e(tr, TAG + " Listener failed for event " + event.getType());
+                }
+            }
+        }
+    }
+
+    private static final class Registration {
+        final BatchListener batchListener;
+        final Executor executor;
+
+        /**
+         * The listener as added, to remove it.
+         */
+        final Object listener;
+
+        Registration(Object listener, BatchListener batchListener, Executor executor) {
+            this.listener = listener;
+            this.batchListener = batchListener;
+            this.executor = executor;
+        }
+    }
+
+    /**
+     * Runs on the main thread, like Intent receivers.
+     */
+    static final class MainThreadExecutor implements Executor {
+        static final MainThreadExecutor INSTANCE = new MainThreadExecutor();
+
+        private final Handler handler = new Handler(Looper.getMainLooper());
+
+        @Override
+        public void execute(Runnable command) {
+            handler.post(command);
+        }
+    }
+
+    /**
+     * The listeners by event type. The map isn't modified after construction
+     * and the lists are copied on write, so dispatching takes no lock.
+     */
+    private final Map<BroadcastEvent.Type, List<Registration>> registrations
+        = new EnumMap<>(BroadcastEvent.Type.class);
+
+    public static JitsiMeetEventBus getInstance() {
+        return instance;
+    }
+
+    JitsiMeetEventBus() {
+        for (BroadcastEvent.Type type : BroadcastEvent.Type.values()) {
+            registrations.put(type, new CopyOnWriteArrayList<Registration>());
+        }
+    }
+
+    /**
+     * Adds a listener, called on the main thread.
+     *
+     * @param listener the listener to add.
+     * @param types the event types to listen for, all of them if none.
+     */
+    public void addListener(@NonNull Listener listener, BroadcastEvent.Type... types) {
+        addListener(listener, MainThreadExecutor.INSTANCE, types);
+    }
+
+    /**
+     * Adds a listener, called on the given {@link Executor}. Events are
+     * dispatched from the React Native thread, so a direct executor avoids
+     * any thread hop, but the listener must then return quickly.
+     *
+     * @param listener the listener to add.
+     * @param executor the {@link Executor} to call the listener on.
+     * @param types the event types to listen for, all of them if none.
+     */
+    public void addListener(
+            @NonNull Listener listener,
+            @NonNull Executor executor,
+            BroadcastEvent.Type... types) {
+        add(new Registration(listener, new PerEventListener(listener), executor), types);
+    }
+
+    /**
+     * Adds a batch listener, called on the main thread.
+     *
+     * @param listener the listener to add.
+     * @param types the event types to listen for, all of them if none.
+     */
+    public void addBatchListener(@NonNull BatchListener listener, BroadcastEvent.Type... types) {
+        addBatchListener(listener, MainThreadExecutor.INSTANCE, types);
+    }
+
+    /**
+     * Adds a batch listener, called on the given {@link Executor}.
+     *
+     * @param listener the listener to add.
+     * @param executor the {@link Executor} to call the listener on.
+     * @param types the event types to listen for, all of them if none.
+     */
+    public void addBatchListener(
+            @NonNull BatchListener listener,
+            @NonNull Executor executor,
+            BroadcastEvent.Type... types) {
+        add(new Registration(listener, listener, executor), types);
+    }
+
+    private void add(Registration registration, BroadcastEvent.Type... types) {
+        if (types.length == 0) {
+            types = BroadcastEvent.Type.values();
+        }
+        for (BroadcastEvent.Type type : types) {
+            registrations.get(type).add(registration);
+        }
+    }
+
+    /**
+     * Removes a listener, for all the event types it was added for.
+     *
+     * @param listener the listener to remove.
+     */
+    public void removeListener(Listener listener) {
+        remove(listener);
+    }
+
+    /**
+     * Removes a batch listener, for all the event types it was added for.
+     *
+     * @param listener the listener to remove.
+     */
+    public void removeBatchListener(BatchListener listener) {
+        remove(listener);
+    }
+
+    private void remove(Object listener) {
+        for (List<Registration> typeRegistrations : registrations.values()) {
+            for (Registration registration : typeRegistrations) {
+                if (registration.listener == listener) {
+                    typeRegistrations.remove(registration);
+                }
+            }
+        }
+    }
+
+    /**
+     * Checks whether there are listeners for the given event type.
+     */
+    boolean hasListeners(BroadcastEvent.Type type) {
+        return type != null && !registrations.get(type).isEmpty();
+    }
+
+    /**
+     * Dispatches an event to the listeners of its type.
+     *
+     * @param event the event to dispatch.
+     */
+    void post(BroadcastEvent event) {
+        post(event.getType(), Collections.singletonList(event));
+    }
+
+    /**
+     * Dispatches a batch of events to the listeners of their type.
+     *
+     * @param type the type of the events.
+     * @param events the events to dispatch.
+     */
+    void post(final BroadcastEvent.Type type, final List<BroadcastEvent> events) {
+        if (type == null || events.isEmpty()) {
+            return;
+        }
+
+        for (final Registration registration : registrations.get(type)) {
+            registration.executor.execute(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        registration.batchListener.onEvents(events);
+                    } catch (Throwable tr) {
+                        JitsiMeetLogger.e(tr, TAG + " Listener failed for events " + type);
+                    }
+                }
+            });
+        }
+    }
+}
@@ -26,7 +26,6 @@ import android.app.Service;
 import android.content.ComponentName;
 import android.content.Context;
 import android.content.Intent;
-import android.content.IntentFilter;
 import android.content.pm.PackageManager;
 import android.content.pm.ServiceInfo;
 import android.os.Build;
@@ -170,15 +169,14 @@ public class JitsiMeetOngoingConferenceService extends Service implements Ongoin
 
         OngoingConferenceTracker.getInstance().addListener(this);
 
-        IntentFilter intentFilter = new IntentFilter();
-        intentFilter.addAction(BroadcastEvent.Type.AUDIO_MUTED_CHANGED.getAction());
-        LocalBroadcastManager.getInstance(getApplicationContext()).registerReceiver(broadcastReceiver, intentFilter);
+        BroadcastSubscriptions.register(
+            getApplicationContext(), broadcastReceiver, BroadcastEvent.Type.AUDIO_MUTED_CHANGED);
     }
 
     @Override
     public void onDestroy() {
         OngoingConferenceTracker.getInstance().removeListener(this);
-        LocalBroadcastManager.getInstance(getApplicationContext()).unregisterReceiver(broadcastReceiver);
+        BroadcastSubscriptions.unregister(getApplicationContext(), broadcastReceiver);
 
         super.onDestroy();
     }
@@ -0,0 +1,142 @@
+/*
+ * Copyright @ 2026-present 8x8, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jitsi.meet.sdk;
+
+import androidx.annotation.Nullable;
+
+import com.facebook.react.BaseReactPackage;
+import com.facebook.react.bridge.NativeModule;
+import com.facebook.react.bridge.ReactApplicationContext;
+import com.facebook.react.module.model.ReactModuleInfo;
+import com.facebook.react.module.model.ReactModuleInfoProvider;
+
+import org.jitsi.meet.sdk.net.NAT64AddrInfoModule;
+import org.jitsi.meet.sdk.trace.StartupTraceModule;
+import org.jitsi.meet.sdk.trace.StartupTracer;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * {@code ReactPackage} providing the SDK's own native modules. The modules are
+ * created lazily, the first time they are accessed (either from JavaScript or
+ * from native code), rather than all at once when the React context is
+ * created.
+ */
+class JitsiMeetReactPackage extends BaseReactPackage {
+    /**
+     * Creates the native module with the given name. It's called at most once
+     * per module and React context.
+     *
+     * @param name the name of the module, as returned by its {@code getName}.
+     * @param reactContext the {@link ReactApplicationContext} where the module
+     * is created.
+     * @return the new module or {@code null} if this package doesn't provide a
+     * module with the given name.
+     */
+    @Nullable
+    @Override
+    public NativeModule getModule(String name, ReactApplicationContext reactContext) {
+        String phase = "createModule:" + name;
+
+        StartupTracer.begin(phase);
+        try {
+            return createModule(name, reactContext);
+        } finally {
+            StartupTracer.end(phase);
+        }
+    }
+
+    @Override
+    public ReactModuleInfoProvider getReactModuleInfoProvider() {
+        final Map<String, ReactModuleInfo> moduleInfos = new HashMap<>();
+
+        addModuleInfo(moduleInfos, AndroidSettingsModule.NAME, AndroidSettingsModule.class);
+        addModuleInfo(moduleInfos, AppInfoModule.NAME, AppInfoModule.class);
+        addModuleInfo(moduleInfos, AudioModeModule.NAME, AudioModeModule.class);
+        addModuleInfo(moduleInfos, DropboxModule.NAME, DropboxModule.class);
+        addModuleInfo(moduleInfos, ExternalAPIModule.NAME, ExternalAPIModule.class);
+        addModuleInfo(moduleInfos, JavaScriptSandboxModule.NAME, JavaScriptSandboxModule.class);
+        addModuleInfo(moduleInfos, LocaleDetector.NAME, LocaleDetector.class);
+        addModuleInfo(moduleInfos, LogBridgeModule.NAME, LogBridgeModule.class);
+        addModuleInfo(moduleInfos, PictureInPictureModule.NAME, PictureInPictureModule.class);
+        addModuleInfo(moduleInfos, ProximityModule.NAME, ProximityModule.class);
+        addModuleInfo(moduleInfos, NAT64AddrInfoModule.NAME, NAT64AddrInfoModule.class);
+        addModuleInfo(moduleInfos, StartupTraceModule.NAME, StartupTraceModule.class);
+
+        if (AudioModeModule.useConnectionService()) {
+            addModuleInfo(moduleInfos, RNConnectionService.NAME, RNConnectionService.class);
+        }
+
+        return new ReactModuleInfoProvider() {
+            @Override
+            public Map<String, ReactModuleInfo> getReactModuleInfos() {
+                return moduleInfos;
+            }
+        };
+    }
+
+    private static void addModuleInfo(
+            Map<String, ReactModuleInfo> moduleInfos,
+            String name,
+            Class<? extends NativeModule> moduleClass) {
+        moduleInfos.put(
+            name,
+            new ReactModuleInfo(
+                name,
+                moduleClass.getName(),
+                /* canOverrideExistingModule */ false,
+                /* needsEagerInit */ false,
+                /* isCxxModule */ false,
+                /* isTurboModule */ false));
+    }
+
+    @Nullable
+    private static NativeModule createModule(String name, ReactApplicationContext reactContext) {
+        switch (name) {
+            case AndroidSettingsModule.NAME:
+                return new AndroidSettingsModule(reactContext);
+            case AppInfoModule.NAME:
+                return new AppInfoModule(reactContext);
+            case AudioModeModule.NAME:
+                return new AudioModeModule(reactContext);
+            case DropboxModule.NAME:
+                return new DropboxModule(reactContext);
+            case ExternalAPIModule.NAME:
+                return new ExternalAPIModule(reactContext);
+            case JavaScriptSandboxModule.NAME:
+                return new JavaScriptSandboxModule(reactContext);
+            case LocaleDetector.NAME:
+                return new LocaleDetector(reactContext);
+            case LogBridgeModule.NAME:
+                return new LogBridgeModule(reactContext);
+            case PictureInPictureModule.NAME:
+                return new PictureInPictureModule(reactContext);
+            case ProximityModule.NAME:
+                return new ProximityModule(reactContext);
+            case NAT64AddrInfoModule.NAME:
+                return new NAT64AddrInfoModule(reactContext);
+            case StartupTraceModule.NAME:
+                return new StartupTraceModule(reactContext);
+            case RNConnectionService.NAME:
+                return AudioModeModule.useConnectionService()
+                    ? new RNConnectionService(reactContext) : null;
+        }
+
+        return null;
+    }
+}
@@ -44,6 +44,10 @@ class JitsiMeetUncaughtExceptionHandler implements Thread.UncaughtExceptionHandl
             ConnectionService.abortConnections();
         }
 
+        // Logging is asynchronous, make sure the crash is logged before the
+        // process dies.
+        JitsiMeetLogger.flush();
+
         if (defaultUncaughtExceptionHandler != null) {
             defaultUncaughtExceptionHandler.uncaughtException(t, e);
         }
@@ -18,17 +18,25 @@ package org.jitsi.meet.sdk;
 
 import android.app.Activity;
 import android.content.Context;
+import android.content.Intent;
 import android.os.Bundle;
 import android.util.AttributeSet;
 import android.widget.FrameLayout;
 
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
+import androidx.localbroadcastmanager.content.LocalBroadcastManager;
 
+import com.facebook.react.ReactInstanceManager;
 import com.facebook.react.ReactRootView;
+import com.facebook.react.bridge.ReactContext;
 
 import org.jitsi.meet.sdk.log.JitsiMeetLogger;
+import org.jitsi.meet.sdk.trace.StartupTracer;
 
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
 
 public class JitsiMeetView extends FrameLayout {
 
@@ -37,11 +45,25 @@ public class JitsiMeetView extends FrameLayout {
      */
     private static final int BACKGROUND_COLOR = 0xFF040404;
 
+    /**
+     * The identifiers of the views which have joined a conference. All views
+     * share the same React Native instance, so this is used to keep the number
+     * of concurrent conferences within budget.
+     */
+    private static final Set<String> joinedViews = new HashSet<>();
+
     /**
      * React Native root view.
      */
     private ReactRootView reactRootView;
 
+    /**
+     * Unique identifier of this view. It's passed to JS as a prop, and JS
+     * sends it back with every event, so the events of the conferences held
+     * in different views can be told apart.
+     */
+    private final String viewId = UUID.randomUUID().toString();
+
     /**
      * Helper method to recursively merge 2 {@link Bundle} objects representing React Native props.
      *
@@ -114,6 +136,8 @@ public class JitsiMeetView extends FrameLayout {
      * typically in the {@code onDestroy} method.
      */
     public void dispose() {
+        setJoined(false);
+
         if (reactRootView != null) {
             removeView(reactRootView);
             reactRootView.unmountReactApplication();
@@ -152,7 +176,31 @@ public class JitsiMeetView extends FrameLayout {
      *                when doing so.
      */
     public void join(@Nullable JitsiMeetConferenceOptions options) {
+        tryJoin(options);
+    }
+
+    /**
+     * Like {@link #join(JitsiMeetConferenceOptions)}, but tells whether the conference is joined.
+     *
+     * @param options - Description of what conference must be joined and what options will be used
+     *                when doing so.
+     * @return {@code false} if the conference cannot be joined because the
+     * maximum number of concurrent conferences, see
+     * {@link JitsiMeet#setMaxConcurrentConferences(int)}, has been reached by
+     * other views, {@code true} otherwise.
+     */
+    public boolean tryJoin(@Nullable JitsiMeetConferenceOptions options) {
+        if (!setJoined(options != null && options.getRoom() != null)) {
+            JitsiMeetLogger.w(
+                "Cannot join, the maximum number of concurrent conferences ("
+                    + JitsiMeet.getMaxConcurrentConferences() + ") has been reached");
+            return false;
+        }
+
+        StartupTracer.markJoin();
         setProps(options != null ? options.asProps() : new Bundle());
+
+        return true;
     }
 
     /**
@@ -160,9 +208,23 @@ public class JitsiMeetView extends FrameLayout {
      * This is only meant to be used from the enclosing Activity's onDestroy.
      */
     public void abort() {
+        setJoined(false);
         setProps(new Bundle());
     }
 
+    /**
+     * Gets the unique identifier of this view. Events broadcast by the
+     * conference held in this view carry it in their data, under the
+     * {@code viewId} key, see {@link BroadcastEvent#getViewId()}. It can also
+     * be used to target actions at this view only, see
+     * {@link BroadcastIntentHelper#buildViewTargetedIntent(Intent, String)}.
+     *
+     * @return the identifier of this view.
+     */
+    public String getViewId() {
+        return viewId;
+    }
+
     /**
      * Creates the {@code ReactRootView} for the given app name with the given
      * props. Once created it's set as the view of this {@code FrameLayout}.
@@ -176,6 +238,8 @@ public class JitsiMeetView extends FrameLayout {
         }
 
         if (reactRootView == null) {
+            StartupTracer.begin("createReactRootView");
+
             reactRootView = new ReactRootView(getContext());
             reactRootView.startReactApplication(
                 ReactInstanceManagerHolder.getReactInstanceManager(),
@@ -183,6 +247,8 @@ public class JitsiMeetView extends FrameLayout {
                 props);
             reactRootView.setBackgroundColor(BACKGROUND_COLOR);
             addView(reactRootView);
+
+            StartupTracer.end("createReactRootView");
         } else {
             reactRootView.setAppProperties(props);
         }
@@ -200,6 +266,74 @@ public class JitsiMeetView extends FrameLayout {
         ReactInstanceManagerHolder.initReactInstanceManager((Activity) context);
     }
 
+    /**
+     * Marks this view as having joined a conference or not, enforcing the
+     * {@link JitsiMeet#getMaxConcurrentConferences()} budget.
+     *
+     * @param joined - Whether this view is joining a conference.
+     * @return {@code false} if the view cannot join because the budget has
+     * been exhausted by other views, {@code true} otherwise.
+     */
+    private boolean setJoined(boolean joined) {
+        return setJoined(viewId, joined);
+    }
+
+    private static boolean setJoined(String viewId, boolean joined) {
+        synchronized (joinedViews) {
+            if (!joined) {
+                joinedViews.remove(viewId);
+                return true;
+            }
+
+            if (!joinedViews.contains(viewId)
+                    && joinedViews.size() >= JitsiMeet.getMaxConcurrentConferences()) {
+                return false;
+            }
+
+            joinedViews.add(viewId);
+            return true;
+        }
+    }
+
+    /**
+     * Called when JS starts joining a conference in a view, e.g. on its own
+     * from the welcome page, so that it is counted even if
+     * {@link #join(JitsiMeetConferenceOptions)} wasn't called for it. If the
+     * maximum number of concurrent conferences has been reached by other
+     * views, the conference is hung up.
+     *
+     * @param viewId - The identifier of the view.
+     */
+    static void onConferenceWillJoin(String viewId) {
+        if (setJoined(viewId, true)) {
+            return;
+        }
+
+        JitsiMeetLogger.w(
+            "Hanging up, the maximum number of concurrent conferences ("
+                + JitsiMeet.getMaxConcurrentConferences() + ") has been reached");
+
+        ReactInstanceManager reactInstanceManager = ReactInstanceManagerHolder.getReactInstanceManager();
+        ReactContext reactContext
+            = reactInstanceManager != null ? reactInstanceManager.getCurrentReactContext() : null;
+
+        if (reactContext != null) {
+            LocalBroadcastManager.getInstance(reactContext).sendBroadcast(
+                BroadcastIntentHelper.buildViewTargetedIntent(BroadcastIntentHelper.buildHangUpIntent(), viewId));
+        }
+    }
+
+    /**
+     * Called when the conference held in a view ended in JS, e.g. on hangup
+     * or when kicked, so that its slot is freed without waiting for the view
+     * to leave or to be disposed of.
+     *
+     * @param viewId - The identifier of the view.
+     */
+    static void onConferenceTerminated(String viewId) {
+        setJoined(viewId, false);
+    }
+
     /**
      * Helper method to set the React Native props.
      * @param newProps - New props to be set on the React Native view.
@@ -219,6 +353,10 @@ public class JitsiMeetView extends FrameLayout {
         // per setProps() invocation.
         props.putLong("timestamp", System.currentTimeMillis());
 
+        // Several views share the same React Native instance, let JS know
+        // which one it's rendered in.
+        props.putString("viewId", viewId);
+
         createReactRootView("App", props);
     }
 
@@ -24,6 +24,8 @@ import org.webrtc.VideoDecoder;
 import org.webrtc.VideoDecoderFactory;
 import org.webrtc.VideoDecoderFallback;
 
+import org.jitsi.meet.sdk.trace.StartupTracer;
+
 import java.util.Arrays;
 import java.util.LinkedHashSet;
 
@@ -58,6 +60,10 @@ public class JitsiVideoDecoderFactory implements VideoDecoderFactory {
 
     @Override
     public @Nullable VideoDecoder createDecoder(VideoCodecInfo codecType) {
+        // The first decoder is created when the first remote video is about
+        // to be received, the others on simulcast layer or codec switches.
+        StartupTracer.markOncePerJoin("createVideoDecoder", "createVideoDecoder:" + codecType.getName());
+
         VideoDecoder softwareDecoder = softwareVideoDecoderFactory.createDecoder(codecType);
         final VideoDecoder hardwareDecoder = hardwareVideoDecoderFactory.createDecoder(codecType);
         if (softwareDecoder == null) {
@@ -0,0 +1,182 @@
+/*
+ * Copyright @ 2026-present 8x8, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jitsi.meet.sdk;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The JSON codec of the SDK payloads. A single {@link Gson} is configured
+ * once, with hand written adapters for the payloads the SDK parses often, so
+ * that neither Gson nor its reflective adapters are built per payload.
+ *
+ * Payloads are JSON, including the map and list values of the Intent extras,
+ * see {@code BroadcastEvent}. Readers are still lenient, only for receivers
+ * which get payloads in the old format, the {@code toString()} of the JS data,
+ * i.e. maps like {@code {isLocal=true, name=John}}.
+ */
+final class JsonCodec {
+    private static final TypeAdapter<ParticipantInfo> participantInfoAdapter = new ParticipantInfoAdapter();
+
+    private static final Gson gson = new GsonBuilder()
+        .registerTypeAdapter(ParticipantInfo.class, participantInfoAdapter)
+        .create();
+
+    private static final TypeAdapter<List<ParticipantInfo>> participantInfoListAdapter
+        = gson.getAdapter(new TypeToken<List<ParticipantInfo>>() {});
+
+    private JsonCodec() {
+    }
+
+    static Gson getGson() {
+        return gson;
+    }
+
+    /**
+     * Reads a list of {@link ParticipantInfo}s, streaming.
+     *
+     * @param reader the JSON.
+     * @return the participants.
+     * @throws IOException if the JSON is malformed.
+     */
+    static List<ParticipantInfo> readParticipantInfos(Reader reader) throws IOException {
+        JsonReader jsonReader = new JsonReader(reader);
+
+        jsonReader.setLenient(true);
+
+        List<ParticipantInfo> participants = participantInfoListAdapter.read(jsonReader);
+
+        return participants != null ? participants : new ArrayList<ParticipantInfo>();
+    }
+
+    static List<ParticipantInfo> readParticipantInfos(String json) throws IOException {
+        return readParticipantInfos(new StringReader(json));
+    }
+
+    static String toJson(Object value) {
+        return gson.toJson(value);
+    }
+
+    /**
+     * Reads and writes {@link ParticipantInfo}s field by field, under the
+     * names JS uses, without reflection.
+     */
+    private static final class ParticipantInfoAdapter extends TypeAdapter<ParticipantInfo> {
+        @Override
+        public ParticipantInfo read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+
+            ParticipantInfo participant = new ParticipantInfo();
+
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "participantId":
+                        participant.id = readString(in);
+                        break;
+                    case "displayName":
+                        participant.displayName = readString(in);
+                        break;
+                    case "avatarUrl":
+                        participant.avatarUrl = readString(in);
+                        break;
+                    case "email":
+                        participant.email = readString(in);
+                        break;
+                    case "name":
+                        participant.name = readString(in);
+                        break;
+                    case "isLocal":
+                        participant.isLocal = readBoolean(in);
+                        break;
+                    case "role":
+                        participant.role = readString(in);
+                        break;
+                    default:
+                        in.skipValue();
+                        break;
+                }
+            }
+            in.endObject();
+
+            return participant;
+        }
+
+        @Override
+        public void write(JsonWriter out, ParticipantInfo participant) throws IOException {
+            if (participant == null) {
+                out.nullValue();
+                return;
+            }
+
+            out.beginObject();
+            out.name("participantId").value(participant.id);
+            out.name("displayName").value(participant.displayName);
+            out.name("avatarUrl").value(participant.avatarUrl);
+            out.name("email").value(participant.email);
+            out.name("name").value(participant.name);
+            out.name("isLocal").value(participant.isLocal);
+            out.name("role").value(participant.role);
+            out.endObject();
+        }
+
+        private static String readString(JsonReader in) throws IOException {
+            switch (in.peek()) {
+                case NULL:
+                    in.nextNull();
+                    return null;
+                case BOOLEAN:
+                    return String.valueOf(in.nextBoolean());
+                case BEGIN_ARRAY:
+                case BEGIN_OBJECT:
+                    in.skipValue();
+                    return null;
+                default:
+                    return in.nextString();
+            }
+        }
+
+        private static boolean readBoolean(JsonReader in) throws IOException {
+            switch (in.peek()) {
+                case BOOLEAN:
+                    return in.nextBoolean();
+                case NULL:
+                    in.nextNull();
+                    return false;
+                case STRING:
+                    return Boolean.parseBoolean(in.nextString());
+                default:
+                    in.skipValue();
+                    return false;
+            }
+        }
+    }
+}
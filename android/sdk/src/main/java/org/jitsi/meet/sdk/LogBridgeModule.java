@@ -16,13 +16,20 @@
 
 package org.jitsi.meet.sdk;
 
+import android.util.Log;
+
 import com.facebook.react.bridge.ReactApplicationContext;
 import com.facebook.react.bridge.ReactContextBaseJavaModule;
 import com.facebook.react.bridge.ReactMethod;
+import com.facebook.react.bridge.ReadableArray;
+import com.facebook.react.bridge.ReadableType;
 import com.facebook.react.module.annotations.ReactModule;
 
 import org.jitsi.meet.sdk.log.JitsiMeetLogger;
 
+import java.util.HashMap;
+import java.util.Map;
+
 import javax.annotation.Nonnull;
 
 /**
@@ -32,42 +39,157 @@ import javax.annotation.Nonnull;
 class LogBridgeModule extends ReactContextBaseJavaModule {
     public static final String NAME = "LogBridge";
 
+    /**
+     * The minimum priority of the JS logs, see
+     * {@link JitsiMeet#setJSLogLevel(int)}.
+     */
+    private static volatile int minPriority = Log.VERBOSE;
+
     public LogBridgeModule(@Nonnull ReactApplicationContext reactContext) {
         super(reactContext);
     }
 
+    static int getMinPriority() {
+        return minPriority;
+    }
+
+    static void setMinPriority(int priority) {
+        minPriority = priority;
+    }
+
     @Override
     public String getName() {
         return NAME;
     }
 
+    /**
+     * Gets the constants of the module. {@code LOG_LEVEL} is the lowest JS
+     * log level which is logged, JS drops the lower ones before they cross the
+     * bridge.
+     */
+    @Override
+    public Map<String, Object> getConstants() {
+        Map<String, Object> constants = new HashMap<>();
+
+        constants.put("LOG_LEVEL", toLevel(minPriority));
+
+        return constants;
+    }
+
     @ReactMethod
     public void trace(final String message) {
-        JitsiMeetLogger.v(message);
+        log(Log.VERBOSE, message);
     }
 
     @ReactMethod
     public void debug(final String message) {
-        JitsiMeetLogger.d(message);
+        log(Log.DEBUG, message);
     }
 
     @ReactMethod
     public void info(final String message) {
-        JitsiMeetLogger.i(message);
+        log(Log.INFO, message);
     }
 
     @ReactMethod
     public void log(final String message) {
-        JitsiMeetLogger.i(message);
+        log(Log.INFO, message);
     }
 
     @ReactMethod
     public void warn(final String message) {
-        JitsiMeetLogger.w(message);
+        log(Log.WARN, message);
     }
 
     @ReactMethod
     public void error(final String message) {
-        JitsiMeetLogger.e(message);
+        log(Log.ERROR, message);
+    }
+
+    /**
+     * Logs a batch of JS log records, in order. Each record is an array of
+     * its level, one of the names of the per level methods, its timestamp,
+     * its tag, which may be empty, and its message. Like for the per level
+     * methods, the timestamp isn't logged, the handlers add their own.
+     *
+     * @param records the records.
+     */
+    @ReactMethod
+    public void logBatch(ReadableArray records) {
+        for (int i = 0, size = records.size(); i < size; i++) {
+            if (records.getType(i) != ReadableType.Array) {
+                continue;
+            }
+
+            ReadableArray record = records.getArray(i);
+
+            if (record == null || record.size() < 4) {
+                continue;
+            }
+
+            String tag = record.getString(2);
+            String message = record.getString(3);
+
+            log(toPriority(record.getString(0)), tag == null || tag.isEmpty() ? message : tag + " " + message);
+        }
+    }
+
+    private static void log(int priority, String message) {
+        // JS may have started before the level was raised.
+        if (priority < minPriority) {
+            return;
+        }
+
+        switch (priority) {
+            case Log.VERBOSE:
+                JitsiMeetLogger.v(message);
+                break;
+            case Log.DEBUG:
+                JitsiMeetLogger.d(message);
+                break;
+            case Log.WARN:
+                JitsiMeetLogger.w(message);
+                break;
+            case Log.ERROR:
+                JitsiMeetLogger.e(message);
+                break;
+            default:
+                JitsiMeetLogger.i(message);
+                break;
+        }
+    }
+
+    private static int toPriority(String level) {
+        if (level == null) {
+            return Log.INFO;
+        }
+
+        switch (level) {
+            case "trace":
+                return Log.VERBOSE;
+            case "debug":
+                return Log.DEBUG;
+            case "warn":
+                return Log.WARN;
+            case "error":
+                return Log.ERROR;
+            default:
+                return Log.INFO;
+        }
+    }
+
+    private static String toLevel(int priority) {
+        switch (priority) {
+            case Log.VERBOSE:
+                return "trace";
+            case Log.DEBUG:
+                return "debug";
+            case Log.INFO:
+                return "info";
+            case Log.WARN:
+                return "warn";
+            default:
+                return "error";
+        }
     }
 }
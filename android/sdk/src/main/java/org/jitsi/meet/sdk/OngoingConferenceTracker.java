@@ -18,13 +18,22 @@ package org.jitsi.meet.sdk;
 
 import com.facebook.react.bridge.ReadableMap;
 
+import org.jitsi.meet.sdk.log.JitsiMeetLogger;
+
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 
 /**
- * Helper class to keep track of what the current conference is.
+ * Helper class to keep track of what the current conference is. Several
+ * {@link JitsiMeetView}s may be in a conference at the same time, so the
+ * conferences are tracked per view, and the current one is the most recently
+ * joined.
  */
 class OngoingConferenceTracker {
     private static final OngoingConferenceTracker instance = new OngoingConferenceTracker();
@@ -36,6 +45,13 @@ class OngoingConferenceTracker {
         Collections.synchronizedSet(new HashSet<OngoingConferenceListener>());
     private String currentConference;
 
+    /**
+     * The ongoing conference URLs, keyed by the view they are held in, in
+     * joining order. Events which don't carry a view identifier are keyed by
+     * URL.
+     */
+    private final Map<String, String> conferences = new LinkedHashMap<>();
+
     public OngoingConferenceTracker() {
     }
 
@@ -52,6 +68,15 @@ class OngoingConferenceTracker {
         return currentConference;
     }
 
+    /**
+     * Gets all the active conference URLs.
+     *
+     * @return - The active conference URLs, in joining order.
+     */
+    synchronized Collection<String> getCurrentConferences() {
+        return new ArrayList<>(conferences.values());
+    }
+
     synchronized void onExternalAPIEvent(String name, ReadableMap data) {
         if (!data.hasKey("url")) {
             return;
@@ -62,21 +87,46 @@ class OngoingConferenceTracker {
             return;
         }
 
+        String viewId = data.hasKey(BroadcastEvent.VIEW_ID) ? data.getString(BroadcastEvent.VIEW_ID) : null;
+        String key = viewId != null ? viewId : url;
+
         switch(name) {
             case CONFERENCE_WILL_JOIN:
+                // Re-insert so that the joining order is kept.
+                conferences.remove(key);
+                conferences.put(key, url);
                 currentConference = url;
+                if (viewId != null) {
+                    JitsiMeetView.onConferenceWillJoin(viewId);
+                }
                 updateListeners();
                 break;
 
             case CONFERENCE_TERMINATED:
-                if (url.equals(currentConference)) {
-                    currentConference = null;
+                // The view may have moved on to another conference already.
+                if (url.equals(conferences.get(key))) {
+                    conferences.remove(key);
+                    if (viewId != null) {
+                        JitsiMeetView.onConferenceTerminated(viewId);
+                    }
+                    currentConference = getLastConference();
                     updateListeners();
                 }
                 break;
         }
     }
 
+    private String getLastConference() {
+        String last = null;
+        Iterator<String> iterator = conferences.values().iterator();
+
+        while (iterator.hasNext()) {
+            last = iterator.next();
+        }
+
+        return last;
+    }
+
     void addListener(OngoingConferenceListener listener) {
         listeners.add(listener);
     }
@@ -86,6 +136,8 @@ class OngoingConferenceTracker {
     }
 
     private void updateListeners() {
+        JitsiMeetLogger.setConference(currentConference);
+
         synchronized (listeners) {
             for (OngoingConferenceListener listener : listeners) {
                 listener.onCurrentConferenceChanged(currentConference);
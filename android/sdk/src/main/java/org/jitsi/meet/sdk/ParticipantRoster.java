@@ -0,0 +1,390 @@
+/*
+ * Copyright @ 2026-present 8x8, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jitsi.meet.sdk;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.facebook.react.bridge.ReadableArray;
+import com.facebook.react.bridge.ReadableMap;
+import com.facebook.react.bridge.ReadableType;
+
+import org.jitsi.meet.sdk.log.JitsiMeetLogger;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+
+/**
+ * The participants of the ongoing conferences, kept up to date from the
+ * participant events as they are sent by JS. Unlike
+ * {@link ParticipantsService#retrieveParticipantsInfo}, querying it doesn't
+ * involve JS, and listeners get what changed rather than the whole list.
+ *
+ * Several {@link JitsiMeetView}s may be in a conference at the same time, so
+ * the participants are kept per view. The current conference is the most
+ * recently joined one, like for {@link JitsiMeet#getCurrentConference()}.
+ *
+ * The {@link ParticipantInfo}s are shared with all the callers and listeners
+ * and must not be modified. Updated participants get new instances.
+ */
+public final class ParticipantRoster {
+    private static final String TAG = ParticipantRoster.class.getSimpleName();
+
+    private static final ParticipantRoster instance = new ParticipantRoster();
+
+    /**
+     * Listener for the changes of the roster.
+     */
+    public interface Listener {
+        /**
+         * Called when participants joined, were updated or left, on the
+         * listener's {@link Executor}.
+         *
+         * @param diff what changed.
+         */
+        void onRosterChanged(Diff diff);
+    }
+
+    /**
+     * The changes of the roster of a view. The lists are in the order of the
+     * roster and must not be modified.
+     */
+    public static final class Diff {
+        /**
+         * The {@link JitsiMeetView#getViewId()} of the view whose roster
+         * changed, if known.
+         */
+        @Nullable
+        public final String viewId;
+
+        public final List<ParticipantInfo> joined;
+
+        public final List<ParticipantInfo> updated;
+
+        public final List<ParticipantInfo> left;
+
+        Diff(
+                @Nullable String viewId,
+                List<ParticipantInfo> joined,
+                List<ParticipantInfo> updated,
+                List<ParticipantInfo> left) {
+            this.viewId = viewId;
+            this.joined = Collections.unmodifiableList(joined);
+            this.updated = Collections.unmodifiableList(updated);
+            this.left = Collections.unmodifiableList(left);
+        }
+
+        boolean isEmpty() {
+            return joined.isEmpty() && updated.isEmpty() && left.isEmpty();
+        }
+    }
+
+    private static final class Registration {
+        final Executor executor;
+        final Listener listener;
+
+        Registration(Listener listener, Executor executor) {
+            this.listener = listener;
+            this.executor = executor;
+        }
+    }
+
+    private final List<Registration> registrations = new CopyOnWriteArrayList<>();
+
+    /**
+     * The participants by id, in joining order, keyed by the view they are
+     * in, in joining order too.
+     */
+    private final Map<String, Map<String, ParticipantInfo>> rosters = new LinkedHashMap<>();
+
+    public static ParticipantRoster getInstance() {
+        return instance;
+    }
+
+    ParticipantRoster() {
+    }
+
+    /**
+     * Gets the participants of the current conference.
+     *
+     * @return the participants, local one included, in joining order.
+     */
+    public synchronized List<ParticipantInfo> getParticipants() {
+        Map<String, ParticipantInfo> roster = null;
+
+        for (Map<String, ParticipantInfo> r : rosters.values()) {
+            roster = r;
+        }
+
+        return roster != null
+            ? Collections.unmodifiableList(new ArrayList<>(roster.values()))
+            : Collections.<ParticipantInfo>emptyList();
+    }
+
+    /**
+     * Gets the participants of the conference held in the given view.
+     *
+     * @param viewId the {@link JitsiMeetView#getViewId()} of the view.
+     * @return the participants, local one included, in joining order.
+     */
+    public synchronized List<ParticipantInfo> getParticipants(@Nullable String viewId) {
+        Map<String, ParticipantInfo> roster = rosters.get(viewId);
+
+        return roster != null
+            ? Collections.unmodifiableList(new ArrayList<>(roster.values()))
+            : Collections.<ParticipantInfo>emptyList();
+    }
+
+    /**
+     * Gets a participant of the conference held in the given view.
+     *
+     * @param viewId the {@link JitsiMeetView#getViewId()} of the view.
+     * @param participantId the id of the participant.
+     * @return the participant or {@code null} if it isn't in the conference.
+     */
+    @Nullable
+    public synchronized ParticipantInfo getParticipant(@Nullable String viewId, String participantId) {
+        Map<String, ParticipantInfo> roster = rosters.get(viewId);
+
+        return roster != null ? roster.get(participantId) : null;
+    }
+
+    /**
+     * Adds a listener, called on the main thread.
+     *
+     * @param listener the listener to add.
+     */
+    public void addListener(@NonNull Listener listener) {
+        addListener(listener, JitsiMeetEventBus.MainThreadExecutor.INSTANCE);
+    }
+
+    /**
+     * Adds a listener, called on the given {@link Executor}. Changes happen
+     * on the React Native thread, so a direct executor avoids any thread hop,
+     * but the listener must then return quickly.
+     *
+     * @param listener the listener to add.
+     * @param executor the {@link Executor} to call the listener on.
+     */
+    public void addListener(@NonNull Listener listener, @NonNull Executor executor) {
+        registrations.add(new Registration(listener, executor));
+    }
+
+    public void removeListener(Listener listener) {
+        for (Registration registration : registrations) {
+            if (registration.listener == listener) {
+                registrations.remove(registration);
+            }
+        }
+    }
+
+    /**
+     * Updates the roster from an event sent by JS.
+     *
+     * @param name the name of the event.
+     * @param data the data of the event.
+     */
+    void onExternalAPIEvent(String name, ReadableMap data) {
+        BroadcastEvent.Type type = BroadcastEvent.Type.buildTypeFromName(name);
+
+        if (type == null) {
+            return;
+        }
+
+        String viewId = data.hasKey(BroadcastEvent.VIEW_ID) ? data.getString(BroadcastEvent.VIEW_ID) : null;
+        Diff diff;
+
+        switch (type) {
+            case PARTICIPANT_JOINED:
+            case PARTICIPANT_UPDATED:
+                diff = put(viewId, toParticipantInfo(data));
+                break;
+            case PARTICIPANT_LEFT:
+                diff = remove(viewId, toParticipantInfo(data).id);
+                break;
+            case PARTICIPANTS_RESET:
+                diff = reset(viewId, toParticipantInfos(data.getArray("participantsInfo")));
+                break;
+            case CONFERENCE_TERMINATED:
+                diff = reset(viewId, null);
+                break;
+            default:
+                return;
+        }
+
+        if (diff != null && !diff.isEmpty()) {
+            notifyListeners(diff);
+        }
+    }
+
+    private synchronized Diff put(String viewId, ParticipantInfo participant) {
+        if (participant.id == null) {
+            return null;
+        }
+
+        Map<String, ParticipantInfo> roster = rosters.get(viewId);
+
+        if (roster == null) {
+            roster = new LinkedHashMap<>();
+            rosters.put(viewId, roster);
+        }
+
+        ParticipantInfo old = roster.put(participant.id, participant);
+        List<ParticipantInfo> changed = Collections.singletonList(participant);
+        List<ParticipantInfo> none = Collections.emptyList();
+
+        if (old == null) {
+            return new Diff(viewId, changed, none, none);
+        }
+
+        return isSame(old, participant) ? null : new Diff(viewId, none, changed, none);
+    }
+
+    private synchronized Diff remove(String viewId, String participantId) {
+        Map<String, ParticipantInfo> roster = rosters.get(viewId);
+        ParticipantInfo participant = roster != null ? roster.remove(participantId) : null;
+
+        if (participant == null) {
+            return null;
+        }
+
+        List<ParticipantInfo> none = Collections.emptyList();
+
+        return new Diff(viewId, none, none, Collections.singletonList(participant));
+    }
+
+    /**
+     * Replaces the roster of a view.
+     *
+     * @param viewId the view.
+     * @param participants the new participants or {@code null} to drop the
+     * roster.
+     */
+    private synchronized Diff reset(String viewId, @Nullable List<ParticipantInfo> participants) {
+        Map<String, ParticipantInfo> old = rosters.remove(viewId);
+        List<ParticipantInfo> joined = new ArrayList<>();
+        List<ParticipantInfo> updated = new ArrayList<>();
+        List<ParticipantInfo> left = new ArrayList<>();
+
+        if (old == null) {
+            old = Collections.emptyMap();
+        }
+
+        if (participants != null) {
+            Map<String, ParticipantInfo> roster = new LinkedHashMap<>();
+
+            for (ParticipantInfo participant : participants) {
+                if (participant.id == null) {
+                    continue;
+                }
+
+                ParticipantInfo previous = old.get(participant.id);
+
+                roster.put(participant.id, participant);
+                if (previous == null) {
+                    joined.add(participant);
+                } else if (!isSame(previous, participant)) {
+                    updated.add(participant);
+                }
+            }
+            rosters.put(viewId, roster);
+
+            for (ParticipantInfo participant : old.values()) {
+                if (!roster.containsKey(participant.id)) {
+                    left.add(participant);
+                }
+            }
+        } else {
+            left.addAll(old.values());
+        }
+
+        return new Diff(viewId, joined, updated, left);
+    }
+
+    private void notifyListeners(final Diff diff) {
+        for (final Registration registration : registrations) {
+            registration.executor.execute(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        registration.listener.onRosterChanged(diff);
+                    } catch (Throwable tr) {
+                        JitsiMeetLogger.e(tr, TAG + " Listener failed");
+                    }
+                }
+            });
+        }
+    }
+
+    private static boolean isSame(ParticipantInfo a, ParticipantInfo b) {
+        return a.isLocal == b.isLocal
+            && Objects.equals(a.displayName, b.displayName)
+            && Objects.equals(a.avatarUrl, b.avatarUrl)
+            && Objects.equals(a.email, b.email)
+            && Objects.equals(a.name, b.name)
+            && Objects.equals(a.role, b.role);
+    }
+
+    /**
+     * Reads a participant as sent by JS, see
+     * {@code participantToParticipantInfo}, without going through JSON.
+     */
+    static ParticipantInfo toParticipantInfo(ReadableMap data) {
+        ParticipantInfo participant = new ParticipantInfo();
+
+        participant.id = getString(data, "participantId");
+        participant.displayName = getString(data, "displayName");
+        participant.avatarUrl = getString(data, "avatarUrl");
+        participant.email = getString(data, "email");
+        participant.name = getString(data, "name");
+        participant.isLocal = data.hasKey("isLocal")
+            && data.getType("isLocal") == ReadableType.Boolean
+            && data.getBoolean("isLocal");
+        participant.role = getString(data, "role");
+
+        return participant;
+    }
+
+    private static List<ParticipantInfo> toParticipantInfos(@Nullable ReadableArray data) {
+        if (data == null) {
+            return Collections.emptyList();
+        }
+
+        List<ParticipantInfo> participants = new ArrayList<>(data.size());
+
+        for (int i = 0; i < data.size(); i++) {
+            ReadableMap participant = data.getMap(i);
+
+            if (participant != null) {
+                participants.add(toParticipantInfo(participant));
+            }
+        }
+
+        return participants;
+    }
+
+    @Nullable
+    private static String getString(ReadableMap data, String key) {
+        return data.hasKey(key) && data.getType(key) == ReadableType.String ? data.getString(key) : null;
+    }
+}
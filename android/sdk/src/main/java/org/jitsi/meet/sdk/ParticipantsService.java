@@ -2,23 +2,15 @@ package org.jitsi.meet.sdk;
 
 import android.content.Context;
 import android.content.Intent;
-import android.content.IntentFilter;
-
-import androidx.localbroadcastmanager.content.LocalBroadcastManager;
+import android.os.SystemClock;
 
 import com.facebook.react.bridge.Arguments;
 import com.facebook.react.bridge.WritableMap;
-import com.google.gson.Gson;
-import com.google.gson.reflect.TypeToken;
 
 import org.jitsi.meet.sdk.log.JitsiMeetLogger;
 
 import java.lang.ref.WeakReference;
-import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
-import java.util.UUID;
 
 import javax.annotation.Nullable;
 
@@ -27,7 +19,22 @@ public class ParticipantsService extends android.content.BroadcastReceiver {
     private static final String TAG = ParticipantsService.class.getSimpleName();
     private static final String REQUEST_ID = "requestId";
 
-    private final Map<String, WeakReference<ParticipantsInfoCallback>> participantsInfoCallbackMap = new HashMap<>();
+    /**
+     * The maximum number of requests waiting for JS to answer. Past it the
+     * oldest ones are dropped.
+     */
+    static final int MAX_PENDING_REQUESTS = 64;
+
+    /**
+     * The time, in milliseconds, after which a request JS didn't answer is
+     * dropped.
+     */
+    static final long REQUEST_TIMEOUT = 30000;
+
+    private final Context context;
+
+    private final RequestTracker<WeakReference<ParticipantsInfoCallback>> requests
+        = new RequestTracker<>(MAX_PENDING_REQUESTS, REQUEST_TIMEOUT);
 
     private static ParticipantsService instance;
 
@@ -37,24 +44,42 @@ public class ParticipantsService extends android.content.BroadcastReceiver {
     }
 
     private ParticipantsService(Context context) {
-        LocalBroadcastManager localBroadcastManager = LocalBroadcastManager.getInstance(context);
-
-        IntentFilter intentFilter = new IntentFilter();
-        intentFilter.addAction(BroadcastEvent.Type.PARTICIPANTS_INFO_RETRIEVED.getAction());
-        localBroadcastManager.registerReceiver(this, intentFilter);
+        this.context = context.getApplicationContext();
+        BroadcastSubscriptions.register(this.context, this, BroadcastEvent.Type.PARTICIPANTS_INFO_RETRIEVED);
     }
 
-    static void init(Context context) {
+    static synchronized void init(Context context) {
+        // A new React context replaces the service, the previous one mustn't
+        // keep receiving.
+        if (instance != null) {
+            BroadcastSubscriptions.unregister(instance.context, instance);
+        }
         instance = new ParticipantsService(context);
     }
 
     public void retrieveParticipantsInfo(ParticipantsInfoCallback participantsInfoCallback) {
-        String callbackKey = UUID.randomUUID().toString();
-        this.participantsInfoCallbackMap.put(callbackKey, new WeakReference<>(participantsInfoCallback));
+        retrieveParticipantsInfo(participantsInfoCallback, null);
+    }
+
+    /**
+     * Retrieves the participants of the conference held in the given view.
+     * {@link ParticipantRoster} has them without asking JS.
+     *
+     * @param participantsInfoCallback the callback which will receive the
+     * participants.
+     * @param viewId the {@link JitsiMeetView#getViewId()} of the view whose
+     * conference is queried or {@code null} to query any.
+     */
+    public void retrieveParticipantsInfo(ParticipantsInfoCallback participantsInfoCallback, @Nullable String viewId) {
+        String callbackKey = requests.add(
+            new WeakReference<>(participantsInfoCallback), SystemClock.elapsedRealtime());
 
         String actionName = BroadcastAction.Type.RETRIEVE_PARTICIPANTS_INFO.getAction();
         WritableMap data = Arguments.createMap();
         data.putString(REQUEST_ID, callbackKey);
+        if (viewId != null) {
+            data.putString(BroadcastEvent.VIEW_ID, viewId);
+        }
         ReactInstanceManagerHolder.emitEvent(actionName, data);
     }
 
@@ -65,17 +90,22 @@ public class ParticipantsService extends android.content.BroadcastReceiver {
         switch (event.getType()) {
             case PARTICIPANTS_INFO_RETRIEVED:
                 try {
-                    List<ParticipantInfo> participantInfoList = new Gson().fromJson(
-                        event.getData().get("participantsInfo").toString(),
-                        new TypeToken<ArrayList<ParticipantInfo>>() {
-                        }.getType());
+                    Object requestId = event.getData().get(REQUEST_ID);
+                    WeakReference<ParticipantsInfoCallback> callbackReference = requests.complete(
+                        requestId != null ? requestId.toString() : null, SystemClock.elapsedRealtime());
+                    ParticipantsInfoCallback participantsInfoCallback
+                        = callbackReference != null ? callbackReference.get() : null;
+
+                    // Unknown, expired or collected, nobody to parse for.
+                    if (participantsInfoCallback == null) {
+                        JitsiMeetLogger.d(TAG + " No callback for participants info request " + requestId);
+                        break;
+                    }
 
-                    ParticipantsInfoCallback participantsInfoCallback = this.participantsInfoCallbackMap.get(event.getData().get(REQUEST_ID).toString()).get();
+                    List<ParticipantInfo> participantInfoList = JsonCodec.readParticipantInfos(
+                        event.getData().get("participantsInfo").toString());
 
-                    if (participantsInfoCallback != null) {
-                        participantsInfoCallback.onReceived(participantInfoList);
-                        this.participantsInfoCallbackMap.remove(participantsInfoCallback);
-                    }
+                    participantsInfoCallback.onReceived(participantInfoList);
                 } catch (Exception e) {
                     JitsiMeetLogger.w(TAG + "error parsing participantsList", e);
                 }
@@ -84,6 +114,28 @@ public class ParticipantsService extends android.content.BroadcastReceiver {
         }
     }
 
+    /**
+     * Gets the number of participants info requests waiting for JS to answer.
+     */
+    public int getPendingRequests() {
+        return requests.getPending(SystemClock.elapsedRealtime());
+    }
+
+    /**
+     * Gets the number of participants info requests JS answered.
+     */
+    public long getCompletedRequests() {
+        return requests.getCompleted();
+    }
+
+    /**
+     * Gets the number of participants info requests dropped without an
+     * answer, because they timed out or too many were pending.
+     */
+    public long getExpiredRequests() {
+        return requests.getExpired(SystemClock.elapsedRealtime());
+    }
+
     public interface ParticipantsInfoCallback {
         void onReceived(List<ParticipantInfo> participantInfoList);
     }
@@ -129,7 +129,9 @@ class RNConnectionService extends ReactContextBaseJavaModule {
                 ? VideoProfile.STATE_BIDIRECTIONAL
                 : VideoProfile.STATE_AUDIO_ONLY);
 
-        ConnectionService.registerStartCallPromise(callUUID, promise);
+        if (!ConnectionService.registerStartCallPromise(callUUID, promise)) {
+            return;
+        }
 
         TelecomManager tm = null;
 
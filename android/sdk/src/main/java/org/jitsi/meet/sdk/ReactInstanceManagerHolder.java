@@ -18,6 +18,7 @@ package org.jitsi.meet.sdk;
 
 import android.annotation.SuppressLint;
 import android.app.Activity;
+import android.app.Application;
 
 import androidx.annotation.Nullable;
 
@@ -25,21 +26,18 @@ import com.facebook.hermes.reactexecutor.HermesExecutorFactory;
 import com.facebook.react.ReactInstanceManager;
 import com.facebook.react.ReactPackage;
 import com.facebook.react.bridge.NativeModule;
-import com.facebook.react.bridge.ReactApplicationContext;
 import com.facebook.react.bridge.ReactContext;
 import com.facebook.react.common.LifecycleState;
 import com.facebook.react.modules.core.DeviceEventManagerModule;
-import com.facebook.react.uimanager.ViewManager;
 import com.oney.WebRTCModule.EglUtils;
 import com.oney.WebRTCModule.WebRTCModuleOptions;
 
 import org.jitsi.meet.sdk.log.JitsiMeetLogger;
+import org.jitsi.meet.sdk.trace.StartupTracer;
 import org.webrtc.EglBase;
 
-import java.lang.reflect.Constructor;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collections;
 import java.util.List;
 
 class ReactInstanceManagerHolder {
@@ -56,32 +54,6 @@ class ReactInstanceManagerHolder {
      */
     private static ReactInstanceManager reactInstanceManager;
 
-    private static List<NativeModule> createNativeModules(ReactApplicationContext reactContext) {
-        List<NativeModule> nativeModules
-            = new ArrayList<>(Arrays.<NativeModule>asList(
-                new AndroidSettingsModule(reactContext),
-                new AppInfoModule(reactContext),
-                new AudioModeModule(reactContext),
-                new DropboxModule(reactContext),
-                new ExternalAPIModule(reactContext),
-                new JavaScriptSandboxModule(reactContext),
-                new LocaleDetector(reactContext),
-                new LogBridgeModule(reactContext),
-                new PictureInPictureModule(reactContext),
-                new ProximityModule(reactContext),
-                new org.jitsi.meet.sdk.net.NAT64AddrInfoModule(reactContext)));
-
-        if (AudioModeModule.useConnectionService()) {
-            nativeModules.add(new RNConnectionService(reactContext));
-        }
-
-        return nativeModules;
-    }
-
-    private static List<ViewManager> createViewManagers(ReactApplicationContext reactContext) {
-        return Collections.emptyList();
-    }
-
     static List<ReactPackage> getReactNativePackages() {
         List<ReactPackage> packages
             = new ArrayList<>(Arrays.asList(
@@ -109,46 +81,10 @@ class ReactInstanceManagerHolder {
             new com.horcrux.svg.SvgPackage(),
             new org.wonday.orientation.OrientationPackage(),
             new com.splashview.SplashViewPackage(),
-            new ReactPackageAdapter() {
-                @Override
-                public List<NativeModule> createNativeModules(ReactApplicationContext reactContext) {
-                    return ReactInstanceManagerHolder.createNativeModules(reactContext);
-                }
-                @Override
-                public List<ViewManager> createViewManagers(ReactApplicationContext reactContext) {
-                    return ReactInstanceManagerHolder.createViewManagers(reactContext);
-                }
-            }));
-
-        // AmplitudeReactNativePackage
-        try {
-            Class<?> amplitudePackageClass = Class.forName("com.amplitude.reactnative.AmplitudeReactNativePackage");
-            Constructor<?> constructor = amplitudePackageClass.getConstructor();
-            packages.add((ReactPackage)constructor.newInstance());
-        } catch (Exception e) {
-            // Ignore any error, the module is not compiled when LIBRE_BUILD is enabled.
-            JitsiMeetLogger.d(TAG, "Not loading AmplitudeReactNativePackage");
-        }
+            new JitsiMeetReactPackage()));
 
-        // GiphyReactNativeSdkPackage
-        try {
-            Class<?> giphyPackageClass = Class.forName("com.giphyreactnativesdk.RTNGiphySdkPackage");
-            Constructor<?> constructor = giphyPackageClass.getConstructor();
-            packages.add((ReactPackage)constructor.newInstance());
-        } catch (Exception e) {
-            // Ignore any error, the module is not compiled when LIBRE_BUILD is enabled.
-            JitsiMeetLogger.d(TAG, "Not loading GiphyReactNativeSdkPackage");
-        }
-
-        // RNGoogleSignInPackage
-        try {
-            Class<?> googlePackageClass = Class.forName("com.reactnativegooglesignin.RNGoogleSigninPackage");
-            Constructor<?> constructor = googlePackageClass.getConstructor();
-            packages.add((ReactPackage)constructor.newInstance());
-        } catch (Exception e) {
-            // Ignore any error, the module is not compiled when LIBRE_BUILD is enabled.
-            JitsiMeetLogger.d(TAG, "Not loading RNGoogleSignInPackage");
-        }
+        // Amplitude, Giphy and Google Sign-In, unless LIBRE_BUILD is enabled.
+        packages.addAll(OptionalReactPackages.create());
 
         return packages;
     }
@@ -201,6 +137,30 @@ class ReactInstanceManagerHolder {
         return reactInstanceManager;
     }
 
+    /**
+     * Initializes the WebRTC module options: the root {@link EglBase} context
+     * and the video codec factories which depend on it. Creating the EGL
+     * context is relatively expensive, but it doesn't need to happen on the UI
+     * thread, so this may be called ahead of time from a background thread.
+     */
+    static synchronized void initWebRTCModuleOptions() {
+        WebRTCModuleOptions options = WebRTCModuleOptions.getInstance();
+        options.enableMediaProjectionService = true;
+        if (options.videoDecoderFactory == null || options.videoEncoderFactory == null) {
+            StartupTracer.begin("initWebRTCModuleOptions");
+
+            EglBase.Context eglContext = EglUtils.getRootEglBaseContext();
+            if (options.videoDecoderFactory == null) {
+                options.videoDecoderFactory = new JitsiVideoDecoderFactory(eglContext);
+            }
+            if (options.videoEncoderFactory == null) {
+                options.videoEncoderFactory = new JitsiVideoEncoderFactory(eglContext);
+            }
+
+            StartupTracer.end("initWebRTCModuleOptions");
+        }
+    }
+
     /**
      * Internal method to initialize the React Native instance manager. We
      * create a single instance in order to load the JavaScript bundle a single
@@ -210,35 +170,60 @@ class ReactInstanceManagerHolder {
      * @param activity {@code Activity} current running Activity.
      */
     static void initReactInstanceManager(Activity activity) {
+        initReactInstanceManager(activity.getApplication(), activity);
+    }
+
+    /**
+     * Pre-warms the React Native instance manager: it's created without an
+     * {@code Activity} and the React context (JavaScript bundle, native
+     * modules) is loaded in the background. The first {@code Activity} which
+     * gets resumed will be attached to it through
+     * {@link JitsiMeetActivityDelegate#onHostResume(Activity)}.
+     *
+     * MUST be called on the UI thread.
+     *
+     * @param application the {@code Application} the React Native instance
+     * will be bound to.
+     */
+    static void prewarmReactInstanceManager(Application application) {
         if (reactInstanceManager != null) {
             return;
         }
 
-        // Initialize the WebRTC module options.
-        WebRTCModuleOptions options = WebRTCModuleOptions.getInstance();
-        options.enableMediaProjectionService = true;
-        if (options.videoDecoderFactory == null || options.videoEncoderFactory == null) {
-            EglBase.Context eglContext = EglUtils.getRootEglBaseContext();
-            if (options.videoDecoderFactory == null) {
-                options.videoDecoderFactory = new JitsiVideoDecoderFactory(eglContext);
-            }
-            if (options.videoEncoderFactory == null) {
-                options.videoEncoderFactory = new JitsiVideoEncoderFactory(eglContext);
-            }
+        initReactInstanceManager(application, null);
+
+        JitsiMeetLogger.d(TAG, "pre-warming RN");
+
+        reactInstanceManager.createReactContextInBackground();
+    }
+
+    private static void initReactInstanceManager(Application application, @Nullable Activity activity) {
+        if (reactInstanceManager != null) {
+            return;
         }
 
+        StartupTracer.begin("initReactInstanceManager");
+
+        // Initialize the WebRTC module options. It's a no-op if it was already
+        // done when pre-warming.
+        initWebRTCModuleOptions();
+
         JitsiMeetLogger.d(TAG, "initializing RN");
 
+        // When pre-warming there is no Activity yet, so don't move the React
+        // context to the resumed state until one gets attached.
         reactInstanceManager
             = ReactInstanceManager.builder()
-                .setApplication(activity.getApplication())
+                .setApplication(application)
                 .setCurrentActivity(activity)
                 .setBundleAssetName("index.android.bundle")
                 .setJSMainModulePath("index.android")
                 .setJavaScriptExecutorFactory(new HermesExecutorFactory())
                 .addPackages(getReactNativePackages())
                 .setUseDeveloperSupport(BuildConfig.DEBUG)
-                .setInitialLifecycleState(LifecycleState.RESUMED)
+                .setInitialLifecycleState(activity != null ? LifecycleState.RESUMED : LifecycleState.BEFORE_RESUME)
                 .build();
+
+        StartupTracer.end("initReactInstanceManager");
     }
 }
@@ -0,0 +1,142 @@
+/*
+ * Copyright @ 2026-present 8x8, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jitsi.meet.sdk;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Tracks the requests sent to JS until they are answered. Requests which
+ * aren't answered in time expire, and when too many are pending the oldest
+ * ones expire early, so the tracker holds a bounded number of requests
+ * however long it is used.
+ *
+ * Expired requests are dropped when the tracker is next used, no timer is
+ * involved. Times are passed in, in milliseconds, from a monotonic clock.
+ *
+ * @param <T> the type of the values kept for each request.
+ */
+class RequestTracker<T> {
+    private static final class Request<T> {
+        final long deadline;
+        final T value;
+
+        Request(T value, long deadline) {
+            this.value = value;
+            this.deadline = deadline;
+        }
+    }
+
+    private final int capacity;
+    private final long timeout;
+
+    /**
+     * The pending requests by id, oldest first.
+     */
+    private final Map<String, Request<T>> requests = new LinkedHashMap<>();
+
+    private long completed;
+    private long expired;
+
+    /**
+     * @param capacity the maximum number of pending requests.
+     * @param timeout the time, in milliseconds, after which a request
+     * expires.
+     */
+    RequestTracker(int capacity, long timeout) {
+        this.capacity = capacity;
+        this.timeout = timeout;
+    }
+
+    /**
+     * Adds a request.
+     *
+     * @param value the value to keep until the request is answered.
+     * @param now the current time.
+     * @return the id of the request.
+     */
+    synchronized String add(T value, long now) {
+        expire(now);
+
+        Iterator<Request<T>> iterator = requests.values().iterator();
+
+        while (requests.size() >= capacity && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+            expired++;
+        }
+
+        String id = UUID.randomUUID().toString();
+
+        requests.put(id, new Request<>(value, now + timeout));
+
+        return id;
+    }
+
+    /**
+     * Completes a request.
+     *
+     * @param id the id of the request.
+     * @param now the current time.
+     * @return the value of the request or {@code null} if it is unknown or
+     * expired.
+     */
+    synchronized T complete(String id, long now) {
+        expire(now);
+
+        Request<T> request = id != null ? requests.remove(id) : null;
+
+        if (request == null) {
+            return null;
+        }
+
+        completed++;
+
+        return request.value;
+    }
+
+    synchronized int getPending(long now) {
+        expire(now);
+
+        return requests.size();
+    }
+
+    synchronized long getCompleted() {
+        return completed;
+    }
+
+    synchronized long getExpired(long now) {
+        expire(now);
+
+        return expired;
+    }
+
+    private void expire(long now) {
+        Iterator<Request<T>> iterator = requests.values().iterator();
+
+        // The oldest requests expire first.
+        while (iterator.hasNext()) {
+            if (iterator.next().deadline > now) {
+                break;
+            }
+            iterator.remove();
+            expired++;
+        }
+    }
+}
@@ -21,8 +21,6 @@ import android.util.Log;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.text.MessageFormat;
-
 import timber.log.Timber;
 
 /**
@@ -30,19 +28,38 @@ import timber.log.Timber;
  * implement a `doLog` method which does the actual logging, in addition with a `getTag` method
  * with which to tag all logs coming into this logger.
  *
+ * Handlers are called on the {@link JitsiMeetLogger} thread, or on the thread calling
+ * {@link JitsiMeetLogger#flush()}, never concurrently, a batch of log calls at a time, followed by
+ * {@link #onBatchEnd()}.
+ *
  * See {@link JitsiMeetDefaultLogHandler} for an example.
  */
 public abstract class JitsiMeetBaseLogHandler extends Timber.Tree {
     @Override
     protected void log(int priority, @Nullable String tag, @NotNull String msg, @Nullable Throwable t) {
-        String errmsg = Log.getStackTraceString(t);
+        String errmsg = t != null ? Log.getStackTraceString(t) : "";
         if (errmsg.isEmpty()) {
             doLog(priority, getDefaultTag(), msg);
         } else {
-            doLog(priority, getDefaultTag(), MessageFormat.format("{0}\n{1}", msg, errmsg));
+            doLog(priority, getDefaultTag(), msg + "\n" + errmsg);
         }
     }
 
+    /**
+     * Called after a batch of log calls was handled, e.g. to flush what the handler buffered.
+     */
+    protected void onBatchEnd() {
+    }
+
+    /**
+     * Called when the current conference changed, in order with the log calls: the following ones
+     * belong to the new conference.
+     *
+     * @param conference the URL of the new current conference or {@code null} if there is none.
+     */
+    protected void onConferenceChanged(@Nullable String conference) {
+    }
+
     protected abstract void doLog(int priority, @NotNull String tag, @NotNull String msg);
 
     protected abstract String getDefaultTag();
@@ -0,0 +1,439 @@
+/*
+ * Copyright @ 2026-present 8x8, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jitsi.meet.sdk.log;
+
+import android.util.Log;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileFilter;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.RandomAccessFile;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.text.SimpleDateFormat;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.Locale;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * A {@link JitsiMeetBaseLogHandler} which keeps the logs on the device, so that they are still
+ * there when a user reports a bad call, unlike logcat's.
+ *
+ * The logs are written to a ring of segment files of a fixed size: when a segment is full the next
+ * one is started and the oldest ones are deleted, so the logs never take more than
+ * {@code segmentSize * maxSegments} bytes. Segments are memory mapped and never synced explicitly,
+ * a log call is a copy into memory and the kernel writes the pages back, even if the app crashes.
+ *
+ * Segments start with a {@link #MAGIC} and a {@link #VERSION}, followed by binary records:
+ * <pre>
+ *     int  length of the rest of the record, written last
+ *     byte type, {@link #LOG} or {@link #CONFERENCE}
+ *     long time, in milliseconds since the epoch
+ *     byte priority, one of the {@link Log} priorities
+ *     the UTF-8 message, or the URL of the conference
+ * </pre>
+ * A length of 0 ends the segment. The tag isn't stored, it is always {@link #getDefaultTag()}.
+ *
+ * See {@link #export} to get the logs, e.g. of a conference, as text.
+ */
+public class JitsiMeetFileLogHandler extends JitsiMeetBaseLogHandler {
+    private static final String TAG = "JitsiMeetSDK";
+
+    private static final int DEFAULT_SEGMENT_SIZE = 1024 * 1024;
+    private static final int DEFAULT_MAX_SEGMENTS = 8;
+
+    static final int MAGIC = 0x4a4d4c47;
+    static final int VERSION = 1;
+
+    static final byte LOG = 1;
+    static final byte CONFERENCE = 2;
+
+    private static final int SEGMENT_HEADER_SIZE = 8;
+    private static final int RECORD_HEADER_SIZE = 4 + 1 + 8 + 1;
+
+    private static final String SEGMENT_PREFIX = "jitsi-meet-";
+    private static final String SEGMENT_SUFFIX = ".log";
+
+    private static final String PRIORITIES = "VDIWEA";
+
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    private final File directory;
+    private final int maxSegments;
+    private final int segmentSize;
+
+    private final CharsetEncoder encoder = UTF_8.newEncoder()
+        .onMalformedInput(CodingErrorAction.REPLACE)
+        .onUnmappableCharacter(CodingErrorAction.REPLACE);
+
+    /**
+     * The URL of the current conference.
+     */
+    private String conference;
+
+    /**
+     * Whether the segments couldn't be written, file logging is then disabled.
+     */
+    private boolean failed;
+
+    /**
+     * The segment being written, {@code null} until the first log call.
+     */
+    private MappedByteBuffer segment;
+
+    private long segmentIndex = -1;
+
+    /**
+     * Creates a handler which keeps up to 8 MiB of logs.
+     *
+     * @param directory the directory of the segments, e.g. in {@code Context.getFilesDir()}. It
+     * must not be used for anything else.
+     */
+    public JitsiMeetFileLogHandler(@NotNull File directory) {
+        this(directory, DEFAULT_SEGMENT_SIZE, DEFAULT_MAX_SEGMENTS);
+    }
+
+    /**
+     * Creates a handler.
+     *
+     * @param directory the directory of the segments, e.g. in {@code Context.getFilesDir()}. It
+     * must not be used for anything else.
+     * @param segmentSize the size of a segment, in bytes. Longer log messages are truncated.
+     * @param maxSegments the number of segments which are kept, the segment being written included.
+     */
+    public JitsiMeetFileLogHandler(@NotNull File directory, int segmentSize, int maxSegments) {
+        if (segmentSize < SEGMENT_HEADER_SIZE + RECORD_HEADER_SIZE) {
+            throw new IllegalArgumentException("Segment size too small: " + segmentSize);
+        }
+        if (maxSegments < 1) {
+            throw new IllegalArgumentException("At least 1 segment must be kept");
+        }
+
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.maxSegments = maxSegments;
+    }
+
+    @Override
+    protected synchronized void doLog(int priority, @NotNull String tag, @NotNull String msg) {
+        write(LOG, priority, msg);
+    }
+
+    @Override
+    protected synchronized void onConferenceChanged(@Nullable String conference) {
+        this.conference = conference;
+
+        // A new segment starts with the current conference anyway.
+        if (segment == null) {
+            rotate();
+        } else {
+            write(CONFERENCE, 0, conference != null ? conference : "");
+        }
+    }
+
+    @Override
+    protected String getDefaultTag() {
+        return TAG;
+    }
+
+    /**
+     * Exports the logs, oldest first, as gzipped UTF-8 text, one line per log call. It may be called
+     * from any thread, logging goes on meanwhile.
+     *
+     * @param conference the URL of the conference whose logs are exported, or {@code null} to export
+     * all of them.
+     * @param out the stream to write the logs to. It is finished but not closed.
+     * @throws IOException if the logs couldn't be read or written.
+     */
+    public void export(@Nullable String conference, @NotNull OutputStream out) throws IOException {
+        File[] segments;
+        File current = null;
+        int currentEnd = 0;
+
+        synchronized (this) {
+            segments = listSegments();
+            if (segment != null) {
+                current = getSegmentFile(segmentIndex);
+                currentEnd = segment.position();
+            }
+        }
+
+        GZIPOutputStream gzip = new GZIPOutputStream(out);
+        Writer writer = new BufferedWriter(new OutputStreamWriter(gzip, UTF_8));
+        SimpleDateFormat dateFormat = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss.SSS", Locale.ROOT);
+
+        for (File file : segments) {
+            // Only read the records of the current segment which were whole when the export started.
+            int end = file.equals(current) ? currentEnd : Integer.MAX_VALUE;
+
+            try {
+                exportSegment(file, end, conference, writer, dateFormat);
+            } catch (FileNotFoundException e) {
+                // The segment was deleted meanwhile.
+            }
+        }
+
+        writer.flush();
+        gzip.finish();
+    }
+
+    private void exportSegment(
+            File file,
+            int end,
+            @Nullable String conference,
+            Writer writer,
+            SimpleDateFormat dateFormat) throws IOException {
+        byte[] bytes;
+        RandomAccessFile raf = new RandomAccessFile(file, "r");
+
+        try {
+            bytes = new byte[(int) Math.min(end, raf.length())];
+            raf.readFully(bytes);
+        } finally {
+            raf.close();
+        }
+
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+
+        if (buffer.remaining() < SEGMENT_HEADER_SIZE
+                || buffer.getInt() != MAGIC
+                || buffer.getInt() != VERSION) {
+            return;
+        }
+
+        // Segments start with the current conference, if any.
+        String recordConference = null;
+
+        while (buffer.remaining() >= 4) {
+            int length = buffer.getInt();
+
+            if (length < RECORD_HEADER_SIZE - 4 || length > buffer.remaining()) {
+                break;
+            }
+
+            int next = buffer.position() + length;
+            byte type = buffer.get();
+            long time = buffer.getLong();
+            int priority = buffer.get();
+            String text = new String(bytes, buffer.position(), next - buffer.position(), UTF_8);
+
+            buffer.position(next);
+
+            if (type == CONFERENCE) {
+                recordConference = text.isEmpty() ? null : text;
+                if (conference == null) {
+                    writer.write(dateFormat.format(new Date(time)));
+                    writer.write(" - Conference: ");
+                    writer.write(recordConference != null ? recordConference : "none");
+                    writer.write('\n');
+                }
+            } else if (type == LOG && (conference == null || conference.equals(recordConference))) {
+                int index = priority - Log.VERBOSE;
+
+                writer.write(dateFormat.format(new Date(time)));
+                writer.write(' ');
+                writer.write(index >= 0 && index < PRIORITIES.length() ? PRIORITIES.charAt(index) : '?');
+                writer.write(' ');
+                writer.write(text);
+                writer.write('\n');
+            }
+        }
+    }
+
+    private void write(byte type, int priority, String text) {
+        if (segment == null && !rotate()) {
+            return;
+        }
+
+        // Only truncate records which don't fit in an empty segment.
+        if (!append(type, priority, text, false) && rotate()) {
+            append(type, priority, text, true);
+        }
+    }
+
+    /**
+     * Appends a record to the current segment, encoding it in place.
+     *
+     * @return {@code false} if the record doesn't fit and isn't truncated.
+     */
+    private boolean append(byte type, int priority, String text, boolean truncate) {
+        MappedByteBuffer buffer = segment;
+        int start = buffer.position();
+
+        if (buffer.remaining() < RECORD_HEADER_SIZE) {
+            return false;
+        }
+
+        long time = JitsiMeetLogger.getRecordTime();
+
+        buffer.position(start + 4);
+        buffer.put(type);
+        buffer.putLong(time != 0 ? time : System.currentTimeMillis());
+        buffer.put((byte) priority);
+
+        encoder.reset();
+
+        CoderResult result = encoder.encode(CharBuffer.wrap(text), buffer, true);
+
+        if (!result.isOverflow()) {
+            result = encoder.flush(buffer);
+        }
+        if (result.isOverflow() && !truncate) {
+            // The length is still 0, so the partial record ends the segment.
+            buffer.position(start);
+            return false;
+        }
+
+        // The length goes last, so that readers only see whole records.
+        buffer.putInt(start, buffer.position() - start - 4);
+
+        return true;
+    }
+
+    /**
+     * Starts a new segment and deletes the oldest ones.
+     *
+     * @return {@code false} if there is no segment to write to.
+     */
+    private boolean rotate() {
+        if (failed) {
+            return false;
+        }
+
+        segment = null;
+
+        try {
+            if (segmentIndex < 0) {
+                File[] segments = listSegments();
+
+                // Don't append to the segments of earlier runs.
+                segmentIndex = segments.length > 0 ? getSegmentIndex(segments[segments.length - 1]) : 0;
+            }
+
+            if (!directory.isDirectory() && !directory.mkdirs()) {
+                throw new IOException("Couldn't create " + directory);
+            }
+
+            segmentIndex++;
+
+            RandomAccessFile raf = new RandomAccessFile(getSegmentFile(segmentIndex), "rw");
+            MappedByteBuffer buffer;
+
+            try {
+                // The new bytes are zeros, i.e. an empty segment.
+                raf.setLength(0);
+                raf.setLength(segmentSize);
+                buffer = raf.getChannel().map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+            } finally {
+                // The mapping outlives the file.
+                raf.close();
+            }
+
+            buffer.putInt(MAGIC);
+            buffer.putInt(VERSION);
+            segment = buffer;
+
+            deleteOldSegments();
+        } catch (IOException | RuntimeException e) {
+            failed = true;
+            // Not through JitsiMeetLogger, which would call us again.
+            Log.w(TAG, "Couldn't write the logs to " + directory + ", file logging is disabled", e);
+            return false;
+        }
+
+        // So that the segment can be exported on its own once the earlier ones are deleted.
+        if (conference != null) {
+            append(CONFERENCE, 0, conference, true);
+        }
+
+        return true;
+    }
+
+    private void deleteOldSegments() {
+        File[] segments = listSegments();
+
+        for (int i = 0; i < segments.length - maxSegments; i++) {
+            if (!segments[i].delete()) {
+                Log.w(TAG, "Couldn't delete the log segment " + segments[i]);
+            }
+        }
+    }
+
+    /**
+     * Lists the segments, oldest first.
+     */
+    private File[] listSegments() {
+        File[] segments = directory.listFiles(new FileFilter() {
+            @Override
+            public boolean accept(File file) {
+                return getSegmentIndex(file) >= 0;
+            }
+        });
+
+        if (segments == null) {
+            return new File[0];
+        }
+
+        Arrays.sort(segments, new Comparator<File>() {
+            @Override
+            public int compare(File a, File b) {
+                return Long.compare(getSegmentIndex(a), getSegmentIndex(b));
+            }
+        });
+
+        return segments;
+    }
+
+    private File getSegmentFile(long index) {
+        return new File(directory, String.format(Locale.ROOT, "%s%010d%s", SEGMENT_PREFIX, index, SEGMENT_SUFFIX));
+    }
+
+    /**
+     * Gets the index of a segment from its name.
+     *
+     * @return the index or -1 if the file isn't a segment.
+     */
+    private static long getSegmentIndex(File file) {
+        String name = file.getName();
+
+        if (!name.startsWith(SEGMENT_PREFIX) || !name.endsWith(SEGMENT_SUFFIX)) {
+            return -1;
+        }
+
+        try {
+            return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+}
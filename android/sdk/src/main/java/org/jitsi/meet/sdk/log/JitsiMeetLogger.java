@@ -16,11 +16,108 @@
 
 package org.jitsi.meet.sdk.log;
 
+import android.util.Log;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
 import timber.log.Timber;
 
+/**
+ * The SDK logger. Callers only append their log calls to a ring buffer, a
+ * background thread formats them and dispatches them to the handlers, in
+ * batches, so that logging never blocks the calling thread on formatting or
+ * logcat I/O. When the buffer is full, log calls are dropped and their number
+ * is logged once there is room again. {@link #flush()} dispatches the pending
+ * log calls right away, e.g. before the process dies.
+ */
 public class JitsiMeetLogger {
+    /**
+     * The number of log calls which can be waiting to be dispatched.
+     */
+    private static final int CAPACITY = 4096;
+
+    /**
+     * The maximum number of log calls dispatched in a batch.
+     */
+    private static final int BATCH_SIZE = 256;
+
+    /**
+     * How long the drainer sleeps at most when there is nothing to dispatch.
+     */
+    private static final long IDLE_TIMEOUT = TimeUnit.SECONDS.toNanos(1);
+
+    /**
+     * How long {@link #flush()} waits at most for the drainer to finish its
+     * batch, in milliseconds.
+     */
+    private static final long FLUSH_TIMEOUT = 1000;
+
+    private static final class Record {
+        final Object[] args;
+        final boolean conferenceChanged;
+        final String message;
+        final int priority;
+        final Throwable t;
+        final long time;
+
+        Record(int priority, Throwable t, String message, Object[] args) {
+            this.priority = priority;
+            this.t = t;
+            this.message = message;
+            this.args = args;
+            this.conferenceChanged = false;
+            this.time = System.currentTimeMillis();
+        }
+
+        /**
+         * A change of the current conference, whose URL is the message.
+         */
+        Record(String conference) {
+            this.priority = 0;
+            this.t = null;
+            this.message = conference;
+            this.args = null;
+            this.conferenceChanged = true;
+            this.time = System.currentTimeMillis();
+        }
+    }
+
+    private static final LogRingBuffer<Record> buffer = new LogRingBuffer<>(CAPACITY);
+
+    private static final AtomicLong dropped = new AtomicLong();
+
+    private static volatile boolean drainerIdle;
+
+    /**
+     * Held while dispatching, by the drainer or by {@link #flush()}, so that
+     * the buffer only has one consumer at a time.
+     */
+    private static final ReentrantLock drainLock = new ReentrantLock();
+
+    /**
+     * The time of the log call being dispatched. Only used under
+     * {@link #drainLock}.
+     */
+    private static long recordTime;
+
+    private static final Thread drainer = new Thread(new Runnable() {
+        @Override
+        public void run() {
+            drain();
+        }
+    }, "JitsiMeetLogger");
+
     static {
         addHandler(new JitsiMeetDefaultLogHandler());
+
+        drainer.setDaemon(true);
+        drainer.start();
     }
 
     public static void addHandler(JitsiMeetBaseLogHandler handler) {
@@ -45,63 +142,231 @@ public class JitsiMeetLogger {
     }
 
     public static void v(String message, Object... args) {
-        Timber.v(message, args);
+        log(Log.VERBOSE, null, message, args);
     }
 
     public static void v(Throwable t, String message, Object... args) {
-        Timber.v(t, message, args);
+        log(Log.VERBOSE, t, message, args);
     }
 
     public static void v(Throwable t) {
-        Timber.v(t);
+        log(Log.VERBOSE, t, null, null);
     }
 
     public static void d(String message, Object... args) {
-        Timber.d(message, args);
+        log(Log.DEBUG, null, message, args);
     }
 
     public static void d(Throwable t, String message, Object... args) {
-        Timber.d(t, message, args);
+        log(Log.DEBUG, t, message, args);
     }
 
     public static void d(Throwable t) {
-        Timber.d(t);
+        log(Log.DEBUG, t, null, null);
     }
 
     public static void i(String message, Object... args) {
-        Timber.i(message, args);
+        log(Log.INFO, null, message, args);
     }
 
     public static void i(Throwable t, String message, Object... args) {
-        Timber.i(t, message, args);
+        log(Log.INFO, t, message, args);
     }
 
     public static void i(Throwable t) {
-        Timber.i(t);
+        log(Log.INFO, t, null, null);
     }
 
     public static void w(String message, Object... args) {
-        Timber.w(message, args);
+        log(Log.WARN, null, message, args);
     }
 
     public static void w(Throwable t, String message, Object... args) {
-        Timber.w(t, message, args);
+        log(Log.WARN, t, message, args);
     }
 
     public static void w(Throwable t) {
-        Timber.w(t);
+        log(Log.WARN, t, null, null);
     }
 
     public static void e(String message, Object... args) {
-        Timber.e(message, args);
+        log(Log.ERROR, null, message, args);
     }
 
     public static void e(Throwable t, String message, Object... args) {
-        Timber.e(t, message, args);
+        log(Log.ERROR, t, message, args);
     }
 
     public static void e(Throwable t) {
-        Timber.e(t);
+        log(Log.ERROR, t, null, null);
+    }
+
+    /**
+     * Sets the conference the following log calls belong to, so that
+     * handlers can tell the logs of a conference apart.
+     *
+     * @param conference the URL of the current conference or {@code null}
+     * if there is none.
+     */
+    public static void setConference(@Nullable String conference) {
+        Record record = new Record(conference);
+
+        // Unlike log calls, conference changes mustn't be dropped, they are
+        // rare enough to wait for the drainer to make room.
+        while (!buffer.offer(record)) {
+            LockSupport.unpark(drainer);
+            Thread.yield();
+        }
+
+        if (drainerIdle) {
+            LockSupport.unpark(drainer);
+        }
     }
 
+    /**
+     * Dispatches the pending log calls on the calling thread, e.g. before the
+     * process dies on an uncaught exception. Waits at most
+     * {@link #FLUSH_TIMEOUT} for the drainer to finish its batch, and gives up
+     * after that.
+     */
+    public static void flush() {
+        try {
+            if (!drainLock.tryLock(FLUSH_TIMEOUT, TimeUnit.MILLISECONDS)) {
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+
+        try {
+            // Bounded, in case producers keep logging meanwhile.
+            drainBatch(CAPACITY);
+        } finally {
+            drainLock.unlock();
+        }
+    }
+
+    /**
+     * Gets the time, in milliseconds since the epoch, of the log call being
+     * dispatched. Only valid while it is dispatched.
+     */
+    static long getRecordTime() {
+        return recordTime;
+    }
+
+    private static void log(int priority, Throwable t, String message, Object[] args) {
+        if (!buffer.offer(new Record(priority, t, message, args))) {
+            dropped.incrementAndGet();
+            return;
+        }
+
+        if (drainerIdle) {
+            LockSupport.unpark(drainer);
+        }
+    }
+
+    /**
+     * Dispatches the log calls, on the drainer thread, for ever.
+     */
+    private static void drain() {
+        while (true) {
+            int count;
+
+            drainLock.lock();
+            try {
+                count = drainBatch(BATCH_SIZE);
+            } finally {
+                drainLock.unlock();
+            }
+
+            if (count == 0) {
+                // Only sleep once the producers have seen drainerIdle, so that
+                // they wake us up.
+                drainerIdle = true;
+                if (buffer.isEmpty()) {
+                    LockSupport.parkNanos(IDLE_TIMEOUT);
+                }
+                drainerIdle = false;
+            }
+        }
+    }
+
+    /**
+     * Dispatches a batch of log calls. Must be called with
+     * {@link #drainLock} held.
+     *
+     * @param max the maximum number of log calls to dispatch.
+     * @return the number of log calls dispatched.
+     */
+    private static int drainBatch(int max) {
+        int count = 0;
+        Record record;
+
+        while (count < max && (record = buffer.poll()) != null) {
+            dispatch(record);
+            count++;
+        }
+
+        if (count > 0) {
+            long droppedCount = dropped.getAndSet(0);
+
+            if (droppedCount > 0) {
+                Timber.w("%d log messages were dropped, the log buffer was full", droppedCount);
+            }
+
+            endBatch();
+        }
+
+        return count;
+    }
+
+    private static void dispatch(Record record) {
+        recordTime = record.time;
+
+        if (record.conferenceChanged) {
+            changeConference(record.message);
+            return;
+        }
+
+        try {
+            if (record.message == null) {
+                Timber.log(record.priority, record.t);
+            } else if (record.args == null || record.args.length == 0) {
+                Timber.log(record.priority, record.t, record.message);
+            } else {
+                Timber.log(record.priority, record.t, record.message, record.args);
+            }
+        } catch (Throwable t) {
+            // A failing handler mustn't stop the drainer.
+        }
+    }
+
+    private static void changeConference(String conference) {
+        List<Timber.Tree> trees = Timber.forest();
+
+        for (Timber.Tree tree : trees) {
+            if (tree instanceof JitsiMeetBaseLogHandler) {
+                try {
+                    ((JitsiMeetBaseLogHandler) tree).onConferenceChanged(conference);
+                } catch (Throwable t) {
+                    // A failing handler mustn't stop the drainer.
+                }
+            }
+        }
+    }
+
+    private static void endBatch() {
+        List<Timber.Tree> trees = Timber.forest();
+
+        for (Timber.Tree tree : trees) {
+            if (tree instanceof JitsiMeetBaseLogHandler) {
+                try {
+                    ((JitsiMeetBaseLogHandler) tree).onBatchEnd();
+                } catch (Throwable t) {
+                    // A failing handler mustn't stop the drainer.
+                }
+            }
+        }
+    }
 }
@@ -0,0 +1,102 @@
+/*
+ * Copyright @ 2026-present 8x8, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jitsi.meet.sdk.log;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Bounded, lock-free ring buffer with any number of producers and a single
+ * consumer at a time, which the caller has to ensure. Producers never wait: when the buffer is full, {@link #offer}
+ * fails at once.
+ *
+ * @param <T> the type of the items.
+ */
+final class LogRingBuffer<T> {
+    private final int capacity;
+    private final int mask;
+    private final AtomicReferenceArray<T> slots;
+
+    /**
+     * The next position producers write to, claimed with a CAS.
+     */
+    private final AtomicLong tail = new AtomicLong();
+
+    /**
+     * The next position the consumer reads from. Only the consumer writes it.
+     */
+    private volatile long head;
+
+    /**
+     * @param capacity the capacity, a power of two.
+     */
+    LogRingBuffer(int capacity) {
+        if (capacity <= 0 || (capacity & (capacity - 1)) != 0) {
+            throw new IllegalArgumentException("capacity must be a power of two: " + capacity);
+        }
+
+        this.capacity = capacity;
+        this.mask = capacity - 1;
+        this.slots = new AtomicReferenceArray<>(capacity);
+    }
+
+    /**
+     * Appends an item, from any thread.
+     *
+     * @param item the item.
+     * @return {@code false} if the buffer is full.
+     */
+    boolean offer(T item) {
+        long t;
+
+        do {
+            t = tail.get();
+            if (t - head >= capacity) {
+                return false;
+            }
+        } while (!tail.compareAndSet(t, t + 1));
+
+        // The slot was emptied by the consumer before it moved the head past
+        // it, so nobody else writes it.
+        slots.lazySet((int) (t & mask), item);
+
+        return true;
+    }
+
+    /**
+     * Takes the oldest item, from one consumer at a time only.
+     *
+     * @return the item or {@code null} if there is none, or if its producer
+     * didn't finish writing it yet.
+     */
+    T poll() {
+        long h = head;
+        int index = (int) (h & mask);
+        T item = slots.get(index);
+
+        if (item != null) {
+            slots.lazySet(index, null);
+            head = h + 1;
+        }
+
+        return item;
+    }
+
+    boolean isEmpty() {
+        return tail.get() == head;
+    }
+}
@@ -16,7 +16,7 @@
 package org.jitsi.meet.sdk.net;
 
 import java.net.InetAddress;
-import java.net.UnknownHostException;
+import java.util.Arrays;
 
 /**
  * Constructs IPv6 addresses for IPv4 addresses in the NAT64 environment.
@@ -26,54 +26,50 @@ import java.net.UnknownHostException;
  * both IPv6 and IPv4 addresses of a host and then trying to find a place where
  * the IPv4 address fits into the format described here:
  * https://tools.ietf.org/html/rfc6052#section-2.2
+ *
+ * Everything is done on the address bytes. Once discovered, synthesizing an
+ * IPv6 address into a caller provided buffer doesn't allocate, see
+ * {@link #getIPv6Address(CharSequence, char[], int)}.
  */
 public class NAT64AddrInfo {
     /**
-     * Coverts bytes array to upper case HEX string.
-     *
-     * @param bytes an array of bytes to be converted
-     * @return ex. "010AFF" for an array of {1, 10, 255}.
+     * The upper case hex digits.
      */
-    static String bytesToHexString(byte[] bytes) {
-        StringBuilder hexStr = new StringBuilder();
+    private static final char[] HEX_DIGITS = "0123456789ABCDEF".toCharArray();
 
-        for (byte b : bytes) {
-            hexStr.append(String.format("%02X", b));
-        }
+    /**
+     * The length of an IPv6 address string as returned by
+     * {@link #getIPv6Address(String)}, eg.
+     * FE80:CD00:0000:0CDA:1357:0000:212F:749C.
+     */
+    public static final int IPV6_ADDRESS_STRING_LENGTH = 39;
 
-        return hexStr.toString();
-    }
+    /**
+     * The index of the 'u' octet (bits 64 to 71) which must be zero.
+     */
+    private static final int U_OCTET = 8;
+
+    /**
+     * The supported prefix lengths, in bits, in the order in which they are
+     * tried.
+     */
+    private static final int[] PREFIX_LENGTHS = { 96, 64, 56, 48, 40, 32 };
 
     /**
-     * Tries to discover the NAT64 prefix/suffix based on the IPv4 and IPv6
-     * addresses resolved for given {@code host}.
+     * Coverts bytes array to upper case HEX string.
      *
-     * @param host the host for which the code will try to discover IPv4 and
-     * IPv6 addresses which then will be used to figure out the NAT64 prefix.
-     * @return {@link NAT64AddrInfo} instance if the NAT64 prefix/suffix was
-     * successfully discovered or {@code null} if it failed for any reason.
-     * @throws UnknownHostException thrown by {@link InetAddress#getAllByName}.
-     */
-    public static NAT64AddrInfo discover(String host)
-            throws UnknownHostException {
-        InetAddress ipv4 = null;
-        InetAddress ipv6 = null;
-
-        for(InetAddress addr : InetAddress.getAllByName(host)) {
-            byte[] bytes = addr.getAddress();
-
-            if (bytes.length == 4) {
-                ipv4 = addr;
-            } else if (bytes.length == 16) {
-                ipv6 = addr;
-            }
-        }
+     * @param bytes an array of bytes to be converted
+     * @return ex. "010AFF" for an array of {1, 10, 255}.
+     */
+    static String bytesToHexString(byte[] bytes) {
+        char[] hexStr = new char[bytes.length * 2];
 
-        if (ipv4 != null && ipv6 != null) {
-            return figureOutNAT64AddrInfo(ipv4.getAddress(), ipv6.getAddress());
+        for (int i = 0; i < bytes.length; i++) {
+            hexStr[2 * i] = HEX_DIGITS[(bytes[i] >> 4) & 0xF];
+            hexStr[2 * i + 1] = HEX_DIGITS[bytes[i] & 0xF];
         }
 
-        return null;
+        return new String(hexStr);
     }
 
     /**
@@ -91,9 +87,6 @@ public class NAT64AddrInfo {
     static NAT64AddrInfo figureOutNAT64AddrInfo(
             byte[] ipv4AddrBytes,
             byte[] ipv6AddrBytes) {
-        String ipv6Str = bytesToHexString(ipv6AddrBytes);
-        String ipv4Str = bytesToHexString(ipv4AddrBytes);
-
         // NAT64 address format:
         // +--+---+---+---+---+---+---+---+---+---+---+---+---+---+---+---+---+
         // |PL| 0-------------32--40--48--56--64--72--80--88--96--104---------|
@@ -110,32 +103,71 @@ public class NAT64AddrInfo {
         // +--+---+---+---+---+---+---+---+---+---+---+---+---+---+---+---+---+
         // |96|     prefix                                    |    v4(32)     |
         // +--+---+---+---+---+---+---+---+---+---+---+---+---+---+---+---+---+
-        int prefixLength = 96;
-        int suffixLength = 0;
-        String prefix = null;
-        String suffix = null;
-
-        if (ipv4Str.equalsIgnoreCase(ipv6Str.substring(prefixLength / 4))) {
-            prefix = ipv6Str.substring(0, prefixLength / 4);
-        } else {
-            // Cut out the 'u' octet
-            ipv6Str = ipv6Str.substring(0, 16) + ipv6Str.substring(18);
-
-            for (prefixLength = 64, suffixLength = 6; prefixLength >= 32; ) {
-                if (ipv4Str.equalsIgnoreCase(
-                        ipv6Str.substring(
-                                prefixLength / 4, prefixLength / 4 + 8))) {
-                    prefix = ipv6Str.substring(0, prefixLength / 4);
-                    suffix = ipv6Str.substring(ipv6Str.length() - suffixLength);
-                    break;
-                }
+        if (ipv4AddrBytes.length != 4 || ipv6AddrBytes.length != 16) {
+            return null;
+        }
 
-                prefixLength -= 8;
-                suffixLength += 2;
+        for (int prefixLength : PREFIX_LENGTHS) {
+            if (matches(ipv4AddrBytes, ipv6AddrBytes, prefixLength)) {
+                return new NAT64AddrInfo(ipv6AddrBytes, prefixLength);
             }
         }
 
-        return prefix != null ? new NAT64AddrInfo(prefix, suffix) : null;
+        return null;
+    }
+
+    /**
+     * Creates the {@link NAT64AddrInfo} of a known NAT64 prefix, for example
+     * one advertised by the network.
+     *
+     * @param prefix the prefix address, 16 bytes, with all the bits past the
+     * prefix length cleared.
+     * @param prefixLength the prefix length in bits.
+     * @return {@link NAT64AddrInfo} instance or {@code null} if the prefix
+     * length is not one of those allowed by RFC 6052.
+     */
+    static NAT64AddrInfo fromPrefix(byte[] prefix, int prefixLength) {
+        if (prefix.length != 16) {
+            return null;
+        }
+
+        for (int supportedPrefixLength : PREFIX_LENGTHS) {
+            if (prefixLength == supportedPrefixLength) {
+                return new NAT64AddrInfo(prefix, prefixLength);
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Gets the index in the IPv6 address of the given byte of the IPv4
+     * address, for the given prefix length.
+     *
+     * @param prefixLength the prefix length in bits.
+     * @param i the index of the IPv4 address byte, 0 to 3.
+     * @return the index of the IPv6 address byte which holds it.
+     */
+    private static int ipv4ByteIndex(int prefixLength, int i) {
+        int index = prefixLength / 8 + i;
+
+        // The IPv4 address bytes go around the 'u' octet, except for /96
+        // where they are all past it.
+        return prefixLength < 96 && index >= U_OCTET ? index + 1 : index;
+    }
+
+    /**
+     * Checks whether the given IPv4 address is embedded in the given IPv6
+     * address with the given prefix length.
+     */
+    private static boolean matches(byte[] ipv4, byte[] ipv6, int prefixLength) {
+        for (int i = 0; i < 4; i++) {
+            if (ipv4[i] != ipv6[ipv4ByteIndex(prefixLength, i)]) {
+                return false;
+            }
+        }
+
+        return true;
     }
 
     /**
@@ -171,44 +203,105 @@ public class NAT64AddrInfo {
      * @throws IllegalArgumentException if the address is not in valid format.
      */
     static byte[] ipv4AddressStringToBytes(String ipv4Address) {
-        InetAddress address;
+        int address = parseIPv4Address(ipv4Address);
 
-        try {
-            address = InetAddress.getByName(ipv4Address);
-        } catch (UnknownHostException e) {
-            throw new IllegalArgumentException(
-                    "Invalid IP address: " + ipv4Address, e);
-        }
+        return new byte[] {
+            (byte) (address >>> 24),
+            (byte) (address >>> 16),
+            (byte) (address >>> 8),
+            (byte) address
+        };
+    }
 
-        byte[] bytes = address.getAddress();
+    /**
+     * Parses an IPv4 address string in the dotted decimal notation, without
+     * allocating.
+     *
+     * @param ipv4Address eg. '192.168.3.23'
+     * @return the IPv4 address as a 32 bits integer, in network byte order.
+     * @throws IllegalArgumentException if the address is not in valid format.
+     */
+    static int parseIPv4Address(CharSequence ipv4Address) {
+        int length = ipv4Address.length();
+        int address = 0;
+        int octet = -1;
+        int octets = 0;
 
-        if (bytes.length != 4) {
+        for (int i = 0; i <= length; i++) {
+            char c = i < length ? ipv4Address.charAt(i) : '.';
+
+            if (c == '.') {
+                if (octet < 0 || ++octets > 4) {
+                    throw new IllegalArgumentException(
+                            "Invalid IP address: " + ipv4Address);
+                }
+                address = (address << 8) | octet;
+                octet = -1;
+            } else if (c >= '0' && c <= '9') {
+                octet = (octet < 0 ? 0 : octet * 10) + (c - '0');
+                if (octet > 255) {
+                    throw new IllegalArgumentException(
+                            "Invalid IP address: " + ipv4Address);
+                }
+            } else {
+                throw new IllegalArgumentException(
+                        "Not an IPv4 address: " + ipv4Address);
+            }
+        }
+
+        if (octets != 4) {
             throw new IllegalArgumentException(
                     "Not an IPv4 address: " + ipv4Address);
         }
 
-        return bytes;
+        return address;
     }
 
     /**
-     * The NAT64 prefix added to construct IPv6 from an IPv4 address.
+     * The IPv6 address discovered for the well known host, with the IPv4
+     * address bytes and the 'u' octet (if any) to be overwritten.
      */
-    private final String prefix;
+    private final byte[] template;
 
     /**
-     * The NAT64 suffix (if any) used to construct IPv6 from an IPv4 address.
+     * For every byte of the IPv6 address, the index of the IPv4 address byte
+     * which goes there or -1 if the byte comes from {@link #template}.
      */
-    private final String suffix;
+    private final byte[] ipv4ByteIndexes = new byte[16];
+
+    /**
+     * The NAT64 prefix length, in bits.
+     */
+    private final int prefixLength;
 
     /**
      * Creates new instance of {@link NAT64AddrInfo}.
      *
-     * @param prefix the NAT64 prefix.
-     * @param suffix the NAT64 suffix.
+     * @param ipv6Address an IPv6 address which embeds an IPv4 address with the
+     * given prefix length.
+     * @param prefixLength the NAT64 prefix length, in bits.
      */
-    private NAT64AddrInfo(String prefix, String suffix) {
-        this.prefix = prefix;
-        this.suffix = suffix;
+    NAT64AddrInfo(byte[] ipv6Address, int prefixLength) {
+        this.prefixLength = prefixLength;
+
+        template = ipv6Address.clone();
+        if (prefixLength < 96) {
+            template[U_OCTET] = 0;
+        }
+
+        Arrays.fill(ipv4ByteIndexes, (byte) -1);
+        for (int i = 0; i < 4; i++) {
+            ipv4ByteIndexes[ipv4ByteIndex(prefixLength, i)] = (byte) i;
+        }
+    }
+
+    /**
+     * Gets the NAT64 prefix length.
+     *
+     * @return the prefix length in bits, one of 32, 40, 48, 56, 64 or 96.
+     */
+    public int getPrefixLength() {
+        return prefixLength;
     }
 
     /**
@@ -221,18 +314,107 @@ public class NAT64AddrInfo {
      * address.
      */
     public String getIPv6Address(String ipv4Address) {
-        byte[] ipv4AddressBytes = ipv4AddressStringToBytes(ipv4Address);
-        StringBuilder newIPv6Str = new StringBuilder();
+        char[] ipv6Address = new char[IPV6_ADDRESS_STRING_LENGTH];
+
+        getIPv6Address(ipv4Address, ipv6Address, 0);
+
+        return new String(ipv6Address);
+    }
+
+    /**
+     * Writes the IPv6 representation of the given IPv4 address into the given
+     * buffer. Doesn't allocate.
+     *
+     * @param ipv4Address eg. '192.34.2.3'
+     * @param dest the buffer to write the IPv6 address string to, eg.
+     * FE80:CD00:0000:0CDA:1357:0000:212F:749C.
+     * @param offset where to start writing in {@code dest}.
+     * @return the number of chars written, that is
+     * {@link #IPV6_ADDRESS_STRING_LENGTH}.
+     * @throws IllegalArgumentException if given string is not a valid IPv4
+     * address.
+     */
+    public int getIPv6Address(CharSequence ipv4Address, char[] dest, int offset) {
+        int ipv4 = parseIPv4Address(ipv4Address);
+        int pos = offset;
+
+        for (int i = 0; i < 16; i++) {
+            int b = getIPv6AddressByte(ipv4, i);
 
-        newIPv6Str.append(prefix);
-        newIPv6Str.append(bytesToHexString(ipv4AddressBytes));
+            if (i > 0 && i % 2 == 0) {
+                dest[pos++] = ':';
+            }
+            dest[pos++] = HEX_DIGITS[b >> 4];
+            dest[pos++] = HEX_DIGITS[b & 0xF];
+        }
+
+        return pos - offset;
+    }
+
+    /**
+     * Writes the IPv6 representation of the given IPv4 address into the given
+     * buffer. Doesn't allocate.
+     *
+     * @param ipv4Address the IPv4 address bytes.
+     * @param dest the buffer to write the 16 IPv6 address bytes to.
+     */
+    public void getIPv6Address(byte[] ipv4Address, byte[] dest) {
+        int ipv4 = (ipv4Address[0] & 0xFF) << 24
+            | (ipv4Address[1] & 0xFF) << 16
+            | (ipv4Address[2] & 0xFF) << 8
+            | (ipv4Address[3] & 0xFF);
+
+        for (int i = 0; i < 16; i++) {
+            dest[i] = (byte) getIPv6AddressByte(ipv4, i);
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof NAT64AddrInfo)) {
+            return false;
+        }
+
+        NAT64AddrInfo other = (NAT64AddrInfo) o;
 
-        if (suffix != null) {
-            // Insert the 'u' octet.
-            newIPv6Str.insert(16, "00");
-            newIPv6Str.append(suffix);
+        // The IPv4 address bytes are not part of the prefix/suffix.
+        if (prefixLength != other.prefixLength) {
+            return false;
         }
+        for (int i = 0; i < 16; i++) {
+            if (ipv4ByteIndexes[i] < 0 && template[i] != other.template[i]) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int hashCode = prefixLength;
+
+        for (int i = 0; i < 16; i++) {
+            if (ipv4ByteIndexes[i] < 0) {
+                hashCode = 31 * hashCode + template[i];
+            }
+        }
+
+        return hashCode;
+    }
+
+    /**
+     * Gets the byte at the given index of the IPv6 address for the given IPv4
+     * address.
+     */
+    private int getIPv6AddressByte(int ipv4, int i) {
+        int ipv4ByteIndex = ipv4ByteIndexes[i];
 
-        return hexStringToIPv6String(newIPv6Str);
+        return ipv4ByteIndex < 0
+            ? template[i] & 0xFF
+            : (ipv4 >>> (24 - 8 * ipv4ByteIndex)) & 0xFF;
     }
 }
@@ -15,15 +15,35 @@
  */
 package org.jitsi.meet.sdk.net;
 
+import android.content.Context;
+import android.net.ConnectivityManager;
+import android.net.IpPrefix;
+import android.net.LinkProperties;
+import android.net.Network;
+import android.os.Build;
+import android.os.SystemClock;
+
+import androidx.annotation.NonNull;
+
+import com.facebook.react.bridge.Arguments;
 import com.facebook.react.bridge.Promise;
 import com.facebook.react.bridge.ReactApplicationContext;
 import com.facebook.react.bridge.ReactContextBaseJavaModule;
 import com.facebook.react.bridge.ReactMethod;
+import com.facebook.react.bridge.ReadableArray;
+import com.facebook.react.bridge.WritableArray;
 import com.facebook.react.module.annotations.ReactModule;
 
 import org.jitsi.meet.sdk.log.JitsiMeetLogger;
 
 import java.net.UnknownHostException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 /**
  * This module exposes the functionality of creating an IPv6 representation
@@ -32,6 +52,14 @@ import java.net.UnknownHostException;
  * See[1] and [2] for more info on what NAT64 is.
  * [1]: https://tools.ietf.org/html/rfc6146
  * [2]: https://tools.ietf.org/html/rfc6052
+ *
+ * The discovery of the NAT64 prefix requires a DNS lookup, see
+ * {@link NAT64PrefixDetector}, so it's performed on a dedicated thread and its
+ * result is cached per {@link Network}. The cache is invalidated when the
+ * network changes or the DNS records expire, and the discovery is started as
+ * soon as a new default network shows up so that it's usually done by the
+ * time the addresses are needed. On API 30+ the prefix advertised in the link
+ * properties is used, if any, without a DNS lookup.
  */
 @ReactModule(name = NAT64AddrInfoModule.NAME)
 public class NAT64AddrInfoModule
@@ -40,30 +68,116 @@ public class NAT64AddrInfoModule
     public final static String NAME = "NAT64AddrInfo";
 
     /**
-     * The host for which the module wil try to resolve both IPv4 and IPv6
-     * addresses in order to figure out the NAT64 prefix.
+     * The {@code Log} tag {@code NAT64AddrInfoModule} is to log messages with.
+     */
+    private final static String TAG = NAME;
+
+    /**
+     * {@link ExecutorService} for running the NAT64 discovery off the native
+     * modules thread.
      */
-    private final static String HOST = "ipv4only.arpa";
+    private static final ExecutorService executor = Executors.newSingleThreadExecutor();
 
     /**
-     * How long is the {@link NAT64AddrInfo} instance valid.
+     * Key used for the cache when there is no default network (or it's
+     * unknown).
      */
-    private final static long INFO_LIFETIME = 60 * 1000;
+    private static final Object NO_NETWORK = new Object();
 
     /**
-     * The {@code Log} tag {@code NAT64AddrInfoModule} is to log messages with.
+     * The discovered NAT64 prefixes, per network. An empty result means that
+     * the network is not a NAT64 one.
      */
-    private final static String TAG = NAME;
+    private final Map<Object, NAT64PrefixDetector.Result> infos = new HashMap<>();
+
+    /**
+     * The requests waiting for a discovery in progress, per network. A
+     * network with an entry here has a discovery in progress.
+     */
+    private final Map<Object, List<Request>> pendingRequests = new HashMap<>();
+
+    /**
+     * The generation of each network, replaced every time its cache entry is
+     * invalidated, so that the result of a discovery which was started before
+     * is not cached. Networks without one have nothing worth caching, e.g.
+     * once the module is invalidated.
+     */
+    private final Map<Object, Integer> generations = new HashMap<>();
+
+    /**
+     * The last generation handed out, see {@link #generations}.
+     */
+    private int generation;
 
     /**
-     * The {@link NAT64AddrInfo} instance which holds NAT64 prefix/suffix.
+     * The link data the NAT64 discovery depends on, per network, so that the
+     * cache is only invalidated when it changes, not e.g. when an IPv6
+     * address is renewed.
      */
-    private NAT64AddrInfo info;
+    private final Map<Network, Object> linkData = new HashMap<>();
 
     /**
-     * When {@link #info} was created.
+     * Invalidates the cache when networks come and go, and starts the
+     * discovery on the new default network.
      */
-    private long infoTimestamp;
+    private final ConnectivityManager.NetworkCallback networkCallback
+        = new ConnectivityManager.NetworkCallback() {
+            @Override
+            public void onAvailable(@NonNull Network network) {
+                discover(network);
+            }
+
+            @Override
+            public void onLinkPropertiesChanged(@NonNull Network network, @NonNull LinkProperties linkProperties) {
+                IpPrefix prefix = Build.VERSION.SDK_INT >= Build.VERSION_CODES.R
+                    ? linkProperties.getNat64Prefix()
+                    : null;
+                Object data = Arrays.asList(linkProperties.getDnsServers(), prefix);
+
+                synchronized (infos) {
+                    Object previous = linkData.put(network, data);
+
+                    // The first call comes right after onAvailable, whose
+                    // discovery is still good.
+                    if (previous != null && !previous.equals(data)) {
+                        invalidate(network);
+                    }
+                }
+
+                if (prefix != null) {
+                    NAT64PrefixDetector.Result result = NAT64PrefixDetector.Result.fromPrefix(
+                        prefix.getRawAddress(), prefix.getPrefixLength());
+
+                    if (result != null) {
+                        synchronized (infos) {
+                            // The advertised prefix wins over any discovery
+                            // in progress.
+                            generations.put(network, ++generation);
+                            infos.put(network, result);
+                        }
+                        return;
+                    }
+                }
+
+                discover(network);
+            }
+
+            @Override
+            public void onLost(@NonNull Network network) {
+                // A discovery in progress completes its requests, but its
+                // result isn't cached.
+                synchronized (infos) {
+                    linkData.remove(network);
+                    infos.remove(network);
+                    generations.remove(network);
+                }
+            }
+        };
+
+    /**
+     * Whether {@link #networkCallback} is registered.
+     */
+    private boolean networkCallbackRegistered;
 
     /**
      * Creates new {@link NAT64AddrInfoModule}.
@@ -75,6 +189,40 @@ public class NAT64AddrInfoModule
         super(reactContext);
     }
 
+    @Override
+    public void initialize() {
+        ConnectivityManager connectivityManager = getConnectivityManager();
+
+        if (connectivityManager != null) {
+            try {
+                connectivityManager.registerDefaultNetworkCallback(networkCallback);
+                networkCallbackRegistered = true;
+            } catch (RuntimeException e) {
+                // Without the callback the cache can't be invalidated, so
+                // it's not used at all.
+                JitsiMeetLogger.w(e, TAG + " Failed to register the network callback");
+            }
+        }
+    }
+
+    @Override
+    public void invalidate() {
+        if (networkCallbackRegistered) {
+            ConnectivityManager connectivityManager = getConnectivityManager();
+
+            if (connectivityManager != null) {
+                connectivityManager.unregisterNetworkCallback(networkCallback);
+            }
+            networkCallbackRegistered = false;
+        }
+
+        synchronized (infos) {
+            infos.clear();
+            generations.clear();
+            linkData.clear();
+        }
+    }
+
     /**
      * Tries to obtain IPv6 address for given IPv4 address in NAT64 environment.
      *
@@ -86,34 +234,280 @@ public class NAT64AddrInfoModule
      */
     @ReactMethod
     public void getIPv6Address(String ipv4Address, final Promise promise) {
-        // Reset if cached for too long.
-        if (System.currentTimeMillis() - infoTimestamp > INFO_LIFETIME) {
-            info = null;
+        request(new Request(new String[] { ipv4Address }, false, promise));
+    }
+
+    /**
+     * Tries to obtain IPv6 addresses for the given IPv4 addresses in NAT64
+     * environment, in a single call. Meant for the candidates of a session
+     * description, which would otherwise cost a bridge round trip each.
+     *
+     * @param ipv4Addresses IPv4 address strings.
+     * @param promise a {@link Promise} which will be resolved with an array
+     * holding, at the same index as in {@code ipv4Addresses}, either the IPv6
+     * address for the IPv4 address or {@code null} if none could be
+     * synthesized. All of them are {@code null} if no {@link NAT64AddrInfo}
+     * was resolved for the current network.
+     */
+    @ReactMethod
+    public void getIPv6Addresses(ReadableArray ipv4Addresses, final Promise promise) {
+        String[] addresses = new String[ipv4Addresses.size()];
+
+        for (int i = 0; i < addresses.length; i++) {
+            addresses[i] = ipv4Addresses.getString(i);
         }
 
-        if (info == null) {
-            String host = HOST;
+        request(new Request(addresses, true, promise));
+    }
 
-            try {
-                info = NAT64AddrInfo.discover(host);
-            } catch (UnknownHostException e) {
-                JitsiMeetLogger.e(e, TAG + " NAT64AddrInfo.discover: " + host);
+    /**
+     * Completes the given request with the {@link NAT64AddrInfo} of the
+     * current network, starting the discovery if it's not known yet.
+     *
+     * @param request the request to be completed.
+     */
+    private void request(Request request) {
+        Object network = getNetworkKey();
+        DiscoverTask task;
+
+        synchronized (infos) {
+            NAT64PrefixDetector.Result result = getResult(network);
+
+            if (result != null) {
+                request.complete(result.getNAT64AddrInfo());
+                return;
             }
-            infoTimestamp = System.currentTimeMillis();
+
+            List<Request> requests = pendingRequests.get(network);
+
+            if (requests != null) {
+                // A discovery is already in progress, wait for it.
+                requests.add(request);
+                return;
+            }
+
+            requests = new ArrayList<>();
+            requests.add(request);
+            task = startDiscovery(network, requests);
         }
 
-        String result;
+        executor.execute(task);
+    }
+
+    /**
+     * Starts the discovery on the given network, unless its result is already
+     * known or a discovery is already in progress.
+     *
+     * @param network the network to run the discovery for.
+     */
+    private void discover(Network network) {
+        DiscoverTask task;
+
+        synchronized (infos) {
+            if (getResult(network) != null || pendingRequests.containsKey(network)) {
+                return;
+            }
+
+            task = startDiscovery(network, new ArrayList<Request>());
+        }
+
+        executor.execute(task);
+    }
+
+    /**
+     * Registers a discovery on the given network, to be run by the caller.
+     * Must be called with {@link #infos} locked.
+     *
+     * @param network the network to run the discovery for.
+     * @param requests the requests waiting for the discovery.
+     * @return the discovery.
+     */
+    private DiscoverTask startDiscovery(Object network, List<Request> requests) {
+        Integer networkGeneration = generations.get(network);
+
+        if (networkGeneration == null) {
+            networkGeneration = ++generation;
+            generations.put(network, networkGeneration);
+        }
+
+        pendingRequests.put(network, requests);
+
+        return new DiscoverTask(network, networkGeneration, requests);
+    }
+
+    /**
+     * Gets the cached result of the discovery on the given network, dropping
+     * it if it has expired. Must be called with {@link #infos} locked.
+     *
+     * @param network the network whose result is to be returned.
+     * @return the result or {@code null} if there's none or it has expired.
+     */
+    private NAT64PrefixDetector.Result getResult(Object network) {
+        NAT64PrefixDetector.Result result = infos.get(network);
+
+        if (result != null && result.isExpired(SystemClock.elapsedRealtime())) {
+            infos.remove(network);
+            result = null;
+        }
+
+        return result;
+    }
+
+    /**
+     * Forgets the {@link NAT64AddrInfo} of the given network. A discovery in
+     * progress on it is started again, for the requests waiting for it, as
+     * its result may be stale already. Must be called with {@link #infos}
+     * locked.
+     *
+     * @param network the network whose cached info is to be removed.
+     */
+    private void invalidate(Network network) {
+        infos.remove(network);
+        generations.put(network, ++generation);
+
+        List<Request> pending = pendingRequests.remove(network);
+
+        if (pending != null) {
+            // Hand the requests over, the stale discovery completes none.
+            List<Request> requests = new ArrayList<>(pending);
+
+            pending.clear();
+            executor.execute(startDiscovery(network, requests));
+        }
+    }
+
+    private ConnectivityManager getConnectivityManager() {
+        return (ConnectivityManager) getReactApplicationContext().getSystemService(Context.CONNECTIVITY_SERVICE);
+    }
+
+    /**
+     * Gets the key of the current default network in the cache.
+     *
+     * @return the default {@link Network} or {@link #NO_NETWORK} if it's not
+     * known. In the latter case nothing gets cached, as it can't be
+     * invalidated.
+     */
+    private Object getNetworkKey() {
+        ConnectivityManager connectivityManager = getConnectivityManager();
+        Network network = connectivityManager != null && networkCallbackRegistered
+            ? connectivityManager.getActiveNetwork()
+            : null;
+
+        return network != null ? network : NO_NETWORK;
+    }
+
+    /**
+     * Synthesizes the IPv6 address for the given IPv4 address.
+     *
+     * @return the IPv6 address or {@code null} if there's no
+     * {@link NAT64AddrInfo} or the IPv4 address is invalid.
+     */
+    private static String getIPv6Address(NAT64AddrInfo info, String ipv4Address) {
+        if (info == null || ipv4Address == null) {
+            return null;
+        }
 
         try {
-            result = info == null ? null : info.getIPv6Address(ipv4Address);
+            return info.getIPv6Address(ipv4Address);
         } catch (IllegalArgumentException exc) {
             JitsiMeetLogger.e(exc, TAG + " Failed to get IPv6 address for: " + ipv4Address);
 
             // We don't want to reject. It's not a big deal if there's no IPv6
             // address resolved.
-            result = null;
+            return null;
+        }
+    }
+
+    /**
+     * A call to {@link #getIPv6Address(String, Promise)} or
+     * {@link #getIPv6Addresses(ReadableArray, Promise)} waiting for the
+     * discovery to complete.
+     */
+    private static class Request {
+        final boolean batch;
+        final String[] ipv4Addresses;
+        final Promise promise;
+
+        Request(String[] ipv4Addresses, boolean batch, Promise promise) {
+            this.batch = batch;
+            this.ipv4Addresses = ipv4Addresses;
+            this.promise = promise;
+        }
+
+        void complete(NAT64AddrInfo info) {
+            if (!batch) {
+                promise.resolve(getIPv6Address(info, ipv4Addresses[0]));
+                return;
+            }
+
+            WritableArray result = Arguments.createArray();
+
+            for (String ipv4Address : ipv4Addresses) {
+                String ipv6Address = getIPv6Address(info, ipv4Address);
+
+                if (ipv6Address == null) {
+                    result.pushNull();
+                } else {
+                    result.pushString(ipv6Address);
+                }
+            }
+            promise.resolve(result);
+        }
+    }
+
+    /**
+     * Discovers the {@link NAT64AddrInfo} of a network, caches it and
+     * completes all the requests which were waiting for it.
+     */
+    private class DiscoverTask implements Runnable {
+        private final int generation;
+        private final Object network;
+        private final List<Request> requests;
+
+        DiscoverTask(Object network, int generation, List<Request> requests) {
+            this.generation = generation;
+            this.network = network;
+            this.requests = requests;
+        }
+
+        @Override
+        public void run() {
+            NAT64PrefixDetector detector = new NAT64PrefixDetector(
+                new NetworkResolver(network instanceof Network ? (Network) network : null));
+            NAT64PrefixDetector.Result result = null;
+
+            try {
+                result = detector.detect(SystemClock.elapsedRealtime());
+            } catch (UnknownHostException e) {
+                JitsiMeetLogger.e(e, TAG + " NAT64PrefixDetector.detect: " + NAT64PrefixDetector.HOST);
+            }
+
+            List<Request> completed;
+
+            synchronized (infos) {
+                // A newer discovery may have taken over.
+                if (pendingRequests.get(network) == requests) {
+                    pendingRequests.remove(network);
+                }
+
+                // Don't cache failures, the next request will retry. Nor
+                // results which may be stale already.
+                if (result != null
+                        && network != NO_NETWORK
+                        && Integer.valueOf(generation).equals(generations.get(network))) {
+                    infos.put(network, result);
+                }
+
+                completed = new ArrayList<>(requests);
+                requests.clear();
+            }
+
+            NAT64AddrInfo info = result != null ? result.getNAT64AddrInfo() : null;
+
+            for (Request request : completed) {
+                request.complete(info);
+            }
         }
-        promise.resolve(result);
     }
 
     @Override
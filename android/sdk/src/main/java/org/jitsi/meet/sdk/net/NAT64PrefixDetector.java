@@ -0,0 +1,193 @@
+/*
+ * Copyright @ 2026-present 8x8, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jitsi.meet.sdk.net;
+
+import java.net.UnknownHostException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Discovers the NAT64 prefixes of a network as described in RFC 7050: the
+ * AAAA records of the well known name {@code ipv4only.arpa} are synthesized
+ * by DNS64 out of the well known IPv4 addresses 192.0.0.170 and 192.0.0.171,
+ * so every AAAA record holds a NAT64 prefix. There may be several of them.
+ *
+ * The DNS lookup is abstracted behind {@link Resolver}, see
+ * {@link NetworkResolver} for the one used on devices.
+ */
+class NAT64PrefixDetector {
+    /**
+     * The well known name, see RFC 7050 section 2.
+     */
+    static final String HOST = "ipv4only.arpa";
+
+    /**
+     * How long results are cached when the DNS TTL is not known, in
+     * milliseconds.
+     */
+    static final long DEFAULT_TTL = 60 * 1000;
+
+    /**
+     * The well known IPv4 addresses of {@link #HOST}, see RFC 7050 section 2.
+     */
+    private static final byte[][] WELL_KNOWN_IPV4_ADDRESSES = {
+        { (byte) 192, 0, 0, (byte) 170 },
+        { (byte) 192, 0, 0, (byte) 171 }
+    };
+
+    /**
+     * Looks up AAAA records.
+     */
+    interface Resolver {
+        /**
+         * Looks up the AAAA records of the given host.
+         *
+         * @param host the host to look up.
+         * @return the answer, which may hold no addresses.
+         * @throws UnknownHostException if the lookup fails.
+         */
+        Answer resolveAAAA(String host) throws UnknownHostException;
+    }
+
+    /**
+     * The answer to an AAAA query.
+     */
+    static final class Answer {
+        /**
+         * The IPv6 addresses, 16 bytes each.
+         */
+        final List<byte[]> addresses;
+
+        /**
+         * The time to live of the records, in milliseconds, or a negative
+         * value if unknown.
+         */
+        final long ttl;
+
+        Answer(List<byte[]> addresses, long ttl) {
+            this.addresses = addresses;
+            this.ttl = ttl;
+        }
+    }
+
+    /**
+     * The NAT64 prefixes of a network.
+     */
+    static final class Result {
+        /**
+         * The prefixes, in the order in which they were advertised. Empty if
+         * the network is not a NAT64 one.
+         */
+        final List<NAT64AddrInfo> infos;
+
+        /**
+         * When the result expires, in milliseconds on the clock passed to
+         * {@link #detect(long)}, or {@link Long#MAX_VALUE} if it never does.
+         */
+        final long expiresAt;
+
+        Result(List<NAT64AddrInfo> infos, long expiresAt) {
+            this.infos = Collections.unmodifiableList(infos);
+            this.expiresAt = expiresAt;
+        }
+
+        /**
+         * Creates a result for a prefix which is known without a DNS lookup,
+         * for example from the link properties. It never expires, it's to be
+         * replaced when the link properties change.
+         *
+         * @param prefix the prefix address, 16 bytes.
+         * @param prefixLength the prefix length, in bits.
+         * @return the result or {@code null} if the prefix length is not one
+         * of those supported by RFC 6052.
+         */
+        static Result fromPrefix(byte[] prefix, int prefixLength) {
+            NAT64AddrInfo info = NAT64AddrInfo.fromPrefix(prefix, prefixLength);
+
+            return info != null
+                ? new Result(Collections.singletonList(info), Long.MAX_VALUE)
+                : null;
+        }
+
+        /**
+         * Gets the prefix to synthesize addresses with. RFC 7050 leaves the
+         * choice to the node, the first one advertised is used.
+         *
+         * @return the first prefix or {@code null} if there's none.
+         */
+        NAT64AddrInfo getNAT64AddrInfo() {
+            return infos.isEmpty() ? null : infos.get(0);
+        }
+
+        boolean isExpired(long now) {
+            return now >= expiresAt;
+        }
+    }
+
+    private final Resolver resolver;
+
+    NAT64PrefixDetector(Resolver resolver) {
+        this.resolver = resolver;
+    }
+
+    /**
+     * Looks up the NAT64 prefixes.
+     *
+     * @param now the current time, in milliseconds, the expiration of the
+     * result is based on.
+     * @return the prefixes, cacheable until they expire.
+     * @throws UnknownHostException if the lookup fails.
+     */
+    Result detect(long now) throws UnknownHostException {
+        Answer answer = resolver.resolveAAAA(HOST);
+        List<NAT64AddrInfo> infos = new ArrayList<>();
+
+        for (byte[] address : answer.addresses) {
+            NAT64AddrInfo info = figureOutNAT64AddrInfo(address);
+
+            // Both well known addresses are usually synthesized with the same
+            // prefix.
+            if (info != null && !infos.contains(info)) {
+                infos.add(info);
+            }
+        }
+
+        long ttl = answer.ttl >= 0 ? answer.ttl : DEFAULT_TTL;
+
+        return new Result(infos, now + ttl);
+    }
+
+    /**
+     * Figures out the NAT64 prefix of an AAAA record of {@link #HOST}.
+     *
+     * @param ipv6Address the IPv6 address.
+     * @return the prefix or {@code null} if none of the well known IPv4
+     * addresses is embedded in {@code ipv6Address}.
+     */
+    private static NAT64AddrInfo figureOutNAT64AddrInfo(byte[] ipv6Address) {
+        for (byte[] ipv4Address : WELL_KNOWN_IPV4_ADDRESSES) {
+            NAT64AddrInfo info
+                = NAT64AddrInfo.figureOutNAT64AddrInfo(ipv4Address, ipv6Address);
+
+            if (info != null) {
+                return info;
+            }
+        }
+
+        return null;
+    }
+}
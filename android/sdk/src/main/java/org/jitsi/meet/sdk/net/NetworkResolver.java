@@ -0,0 +1,224 @@
+/*
+ * Copyright @ 2026-present 8x8, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jitsi.meet.sdk.net;
+
+import android.net.DnsResolver;
+import android.net.Network;
+import android.os.Build;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.RequiresApi;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * {@link NAT64PrefixDetector.Resolver} which looks up AAAA records on a
+ * specific {@link Network}. On API 29+ the query is sent with
+ * {@link DnsResolver}, so that the TTL of the records is known. Before that
+ * it falls back to {@link Network#getAllByName(String)}, without TTL.
+ */
+class NetworkResolver implements NAT64PrefixDetector.Resolver {
+    /**
+     * How long to wait for a DNS answer, in seconds.
+     */
+    private static final long TIMEOUT = 10;
+
+    private static final int CLASS_IN = 1;
+    private static final int TYPE_AAAA = 28;
+
+    private static final int RCODE_NOERROR = 0;
+    private static final int RCODE_NXDOMAIN = 3;
+
+    @Nullable
+    private final Network network;
+
+    /**
+     * Creates a new {@link NetworkResolver}.
+     *
+     * @param network the network to run the queries on or {@code null} for
+     * the default one.
+     */
+    NetworkResolver(@Nullable Network network) {
+        this.network = network;
+    }
+
+    @Override
+    public NAT64PrefixDetector.Answer resolveAAAA(String host) throws UnknownHostException {
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.Q) {
+            return rawQuery(host);
+        }
+
+        InetAddress[] addresses
+            = network != null ? network.getAllByName(host) : InetAddress.getAllByName(host);
+        List<byte[]> ipv6Addresses = new ArrayList<>();
+
+        for (InetAddress address : addresses) {
+            byte[] bytes = address.getAddress();
+
+            if (bytes.length == 16) {
+                ipv6Addresses.add(bytes);
+            }
+        }
+
+        return new NAT64PrefixDetector.Answer(ipv6Addresses, -1);
+    }
+
+    @RequiresApi(api = Build.VERSION_CODES.Q)
+    private NAT64PrefixDetector.Answer rawQuery(String host) throws UnknownHostException {
+        final CountDownLatch latch = new CountDownLatch(1);
+        final AtomicReference<byte[]> response = new AtomicReference<>();
+        final AtomicReference<Exception> error = new AtomicReference<>();
+        final AtomicInteger responseCode = new AtomicInteger();
+
+        DnsResolver.getInstance().rawQuery(
+            network,
+            host,
+            CLASS_IN,
+            TYPE_AAAA,
+            DnsResolver.FLAG_EMPTY,
+            Runnable::run,
+            null,
+            new DnsResolver.Callback<byte[]>() {
+                @Override
+                public void onAnswer(@NonNull byte[] answer, int rcode) {
+                    response.set(answer);
+                    responseCode.set(rcode);
+                    latch.countDown();
+                }
+
+                @Override
+                public void onError(@NonNull DnsResolver.DnsException e) {
+                    error.set(e);
+                    latch.countDown();
+                }
+            });
+
+        try {
+            if (!latch.await(TIMEOUT, TimeUnit.SECONDS)) {
+                throw new UnknownHostException("Timed out resolving " + host);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new UnknownHostException("Interrupted resolving " + host);
+        }
+
+        if (error.get() != null) {
+            UnknownHostException e = new UnknownHostException("Failed to resolve " + host);
+
+            e.initCause(error.get());
+            throw e;
+        }
+
+        // Only a definite answer tells whether there is a NAT64 or not, a
+        // transient failure, e.g. SERVFAIL or REFUSED, mustn't be cached as
+        // "no NAT64".
+        int rcode = responseCode.get();
+
+        if (rcode != RCODE_NOERROR && rcode != RCODE_NXDOMAIN) {
+            throw new UnknownHostException("Failed to resolve " + host + ", rcode " + rcode);
+        }
+
+        return parseAAAAResponse(response.get());
+    }
+
+    /**
+     * Extracts the AAAA records and their TTL out of a DNS response in the
+     * wire format of RFC 1035 section 4.
+     *
+     * @param response the DNS response.
+     * @return the addresses and the lowest TTL of the answer records, or a
+     * negative TTL if there are none.
+     * @throws UnknownHostException if the response is malformed.
+     */
+    static NAT64PrefixDetector.Answer parseAAAAResponse(byte[] response) throws UnknownHostException {
+        List<byte[]> addresses = new ArrayList<>();
+        long ttl = -1;
+
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(response);
+
+            // Header: ID, flags, QDCOUNT, ANCOUNT, NSCOUNT, ARCOUNT.
+            buffer.position(4);
+            int questions = buffer.getShort() & 0xFFFF;
+            int answers = buffer.getShort() & 0xFFFF;
+            buffer.position(12);
+
+            for (int i = 0; i < questions; i++) {
+                skipName(buffer);
+                // QTYPE, QCLASS.
+                buffer.position(buffer.position() + 4);
+            }
+
+            for (int i = 0; i < answers; i++) {
+                skipName(buffer);
+
+                int type = buffer.getShort() & 0xFFFF;
+                // CLASS
+                buffer.getShort();
+                long recordTtl = (buffer.getInt() & 0xFFFFFFFFL) * 1000;
+                int length = buffer.getShort() & 0xFFFF;
+
+                if (type == TYPE_AAAA && length == 16) {
+                    byte[] address = new byte[16];
+
+                    buffer.get(address);
+                    addresses.add(address);
+                } else {
+                    buffer.position(buffer.position() + length);
+                }
+
+                // The records of a CNAME chain count as well.
+                ttl = ttl < 0 ? recordTtl : Math.min(ttl, recordTtl);
+            }
+        } catch (BufferUnderflowException | IllegalArgumentException e) {
+            UnknownHostException uhe = new UnknownHostException("Malformed DNS response");
+
+            uhe.initCause(e);
+            throw uhe;
+        }
+
+        return new NAT64PrefixDetector.Answer(addresses, ttl);
+    }
+
+    /**
+     * Skips a possibly compressed domain name.
+     */
+    private static void skipName(ByteBuffer buffer) {
+        while (true) {
+            int length = buffer.get() & 0xFF;
+
+            if (length == 0) {
+                return;
+            }
+            if ((length & 0xC0) == 0xC0) {
+                // A pointer ends the name.
+                buffer.get();
+                return;
+            }
+            buffer.position(buffer.position() + length);
+        }
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright @ 2026-present 8x8, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jitsi.meet.sdk.trace;
+
+import com.facebook.react.bridge.Arguments;
+import com.facebook.react.bridge.Promise;
+import com.facebook.react.bridge.ReactApplicationContext;
+import com.facebook.react.bridge.ReactContextBaseJavaModule;
+import com.facebook.react.bridge.ReactMethod;
+import com.facebook.react.bridge.WritableArray;
+import com.facebook.react.bridge.WritableMap;
+import com.facebook.react.module.annotations.ReactModule;
+
+import org.jitsi.meet.sdk.log.JitsiMeetLogger;
+
+import java.io.File;
+import java.io.IOException;
+
+/**
+ * Module exposing the {@link StartupTracer} to JS, so the JS side can record
+ * its own phases (e.g. {@code getUserMedia}) and the timeline can be retrieved
+ * or dumped to a file.
+ */
+@ReactModule(name = StartupTraceModule.NAME)
+public class StartupTraceModule
+    extends ReactContextBaseJavaModule {
+
+    public static final String NAME = "StartupTrace";
+
+    private static final String TAG = NAME;
+
+    public StartupTraceModule(ReactApplicationContext reactContext) {
+        super(reactContext);
+    }
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    /**
+     * Begins a phase. See {@link StartupTracer#begin(String)}.
+     *
+     * @param phase the name of the phase.
+     */
+    @ReactMethod
+    public void begin(String phase) {
+        StartupTracer.begin(phase);
+    }
+
+    /**
+     * Ends a phase. See {@link StartupTracer#end(String)}.
+     *
+     * @param phase the name of the phase.
+     */
+    @ReactMethod
+    public void end(String phase) {
+        StartupTracer.end(phase);
+    }
+
+    /**
+     * Records an instant event. See {@link StartupTracer#mark(String)}.
+     *
+     * @param event the name of the event.
+     */
+    @ReactMethod
+    public void mark(String event) {
+        StartupTracer.mark(event);
+    }
+
+    /**
+     * Gets the timeline recorded so far.
+     *
+     * @param promise a {@link Promise} which will be resolved with an array of
+     * objects with the name, start, duration and thread of each entry.
+     */
+    @ReactMethod
+    public void getTimeline(Promise promise) {
+        WritableArray result = Arguments.createArray();
+
+        for (StartupTracer.Entry entry : StartupTracer.getTimeline()) {
+            WritableMap map = Arguments.createMap();
+
+            map.putString("name", entry.name);
+            map.putDouble("start", entry.start);
+            map.putDouble("duration", entry.duration);
+            map.putString("thread", entry.thread);
+            result.pushMap(map);
+        }
+
+        promise.resolve(result);
+    }
+
+    /**
+     * Dumps the timeline recorded so far into a JSON file in the application's
+     * cache directory.
+     *
+     * @param promise a {@link Promise} which will be resolved with the path of
+     * the file, or rejected if it could not be written.
+     */
+    @ReactMethod
+    public void dump(Promise promise) {
+        try {
+            File file = StartupTracer.dump(getReactApplicationContext().getCacheDir());
+
+            promise.resolve(file.getAbsolutePath());
+        } catch (IOException e) {
+            JitsiMeetLogger.e(e, TAG + " Failed to dump the startup trace");
+            promise.reject(e);
+        }
+    }
+}
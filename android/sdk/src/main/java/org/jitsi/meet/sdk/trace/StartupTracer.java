@@ -0,0 +1,351 @@
+/*
+ * Copyright @ 2026-present 8x8, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jitsi.meet.sdk.trace;
+
+import android.os.Build;
+import android.os.Process;
+import android.os.SystemClock;
+import android.os.Trace;
+
+import androidx.annotation.Nullable;
+
+import com.facebook.react.bridge.ReactMarker;
+import com.facebook.react.bridge.ReactMarkerConstants;
+
+import org.jitsi.meet.sdk.log.JitsiMeetLogger;
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Lightweight tracer for the SDK startup and join phases. Every phase is
+ * reported as an {@link Trace} section, so it shows up in systrace / Perfetto
+ * captures, and it's also recorded in an in-memory timeline which can be
+ * retrieved through {@link StartupTraceModule} or dumped to a file, in order to
+ * keep track of join time regressions.
+ *
+ * All times are in milliseconds relative to the start of the process.
+ */
+public class StartupTracer {
+    private static final String TAG = StartupTracer.class.getSimpleName();
+
+    /**
+     * Maximum number of entries kept in the timeline. Anything beyond that is
+     * dropped, the timeline is only meant to cover startup and the first
+     * join.
+     */
+    private static final int MAX_ENTRIES = 512;
+
+    /**
+     * Prefix of the {@link Trace} section names.
+     */
+    private static final String TRACE_PREFIX = "JitsiMeet:";
+
+    /**
+     * Maximum length of a {@link Trace} section name.
+     */
+    private static final int MAX_TRACE_NAME_LENGTH = 127;
+
+    /**
+     * The begin time of the phases which have not ended yet, mapped by name.
+     */
+    private static final Map<String, Long> openPhases = new ConcurrentHashMap<>();
+
+    /**
+     * The recorded timeline.
+     */
+    private static final List<Entry> timeline = new ArrayList<>();
+
+    /**
+     * Whether a conference was joined already in this process. The first join
+     * is a cold one, the rest are warm.
+     */
+    private static boolean joined;
+
+    /**
+     * The keys of the events recorded with
+     * {@link #markOncePerJoin(String, String)} since the last join.
+     */
+    private static final Set<String> joinEvents = new HashSet<>();
+
+    private static boolean reactMarkerListenerAdded;
+
+    /**
+     * Begins a phase. Phases are identified by name and may begin and end on
+     * different threads.
+     *
+     * @param phase the name of the phase.
+     */
+    public static void begin(String phase) {
+        openPhases.put(phase, SystemClock.elapsedRealtimeNanos());
+
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.Q) {
+            Trace.beginAsyncSection(traceName(phase), phase.hashCode());
+        }
+    }
+
+    /**
+     * Ends a phase previously started with {@link #begin(String)}. It's a
+     * no-op if the phase was not started.
+     *
+     * @param phase the name of the phase.
+     */
+    public static void end(String phase) {
+        Long beginTime = openPhases.remove(phase);
+
+        if (beginTime == null) {
+            return;
+        }
+
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.Q) {
+            Trace.endAsyncSection(traceName(phase), phase.hashCode());
+        }
+
+        record(phase, beginTime, SystemClock.elapsedRealtimeNanos());
+    }
+
+    /**
+     * Records an instant event in the timeline.
+     *
+     * @param event the name of the event.
+     */
+    public static void mark(String event) {
+        long now = SystemClock.elapsedRealtimeNanos();
+
+        record(event, now, now);
+    }
+
+    /**
+     * Records an instant event in the timeline, unless an event with the same
+     * key was recorded since the last join. Meant for the events which happen
+     * all along a conference, of which only the first one is part of the
+     * join.
+     *
+     * @param key the key of the event.
+     * @param event the name of the event.
+     */
+    public static void markOncePerJoin(String key, String event) {
+        synchronized (timeline) {
+            if (!joinEvents.add(key)) {
+                return;
+            }
+        }
+
+        mark(event);
+    }
+
+    /**
+     * Marks the beginning of a join. The first one in the process is recorded
+     * as a cold join, subsequent ones as warm joins.
+     */
+    public static void markJoin() {
+        boolean cold;
+
+        synchronized (timeline) {
+            cold = !joined;
+            joined = true;
+            joinEvents.clear();
+        }
+
+        mark(cold ? "join:cold" : "join:warm");
+    }
+
+    /**
+     * Starts recording the React Native bridge markers: context creation,
+     * bundle evaluation and native module creation and initialization.
+     */
+    public static synchronized void addReactMarkerListener() {
+        if (reactMarkerListenerAdded) {
+            return;
+        }
+
+        reactMarkerListenerAdded = true;
+
+        ReactMarker.addListener(new ReactMarker.MarkerListener() {
+            @Override
+            public void logMarker(ReactMarkerConstants name, @Nullable String tag, int instanceKey) {
+                onReactMarker(name, tag);
+            }
+        });
+    }
+
+    /**
+     * Gets a copy of the timeline recorded so far.
+     *
+     * @return the recorded entries, in the order in which they ended.
+     */
+    public static List<Entry> getTimeline() {
+        synchronized (timeline) {
+            return new ArrayList<>(timeline);
+        }
+    }
+
+    /**
+     * Clears the recorded timeline.
+     */
+    public static void reset() {
+        openPhases.clear();
+
+        synchronized (timeline) {
+            timeline.clear();
+        }
+    }
+
+    /**
+     * Serializes the recorded timeline as JSON.
+     *
+     * @return a JSON array with one object (name, start, duration, thread) per
+     * entry.
+     */
+    public static JSONArray toJSON() {
+        JSONArray array = new JSONArray();
+
+        try {
+            for (Entry entry : getTimeline()) {
+                JSONObject object = new JSONObject();
+
+                object.put("name", entry.name);
+                object.put("start", entry.start);
+                object.put("duration", entry.duration);
+                object.put("thread", entry.thread);
+                array.put(object);
+            }
+        } catch (JSONException e) {
+            JitsiMeetLogger.w(e, TAG + " Failed to serialize timeline");
+        }
+
+        return array;
+    }
+
+    /**
+     * Dumps the recorded timeline, as JSON, into a new file in the given
+     * directory.
+     *
+     * @param dir the directory where the file will be created.
+     * @return the created file.
+     * @throws IOException if the file could not be written.
+     */
+    public static File dump(File dir) throws IOException {
+        File file = new File(dir, "jitsi-startup-trace-" + System.currentTimeMillis() + ".json");
+
+        try (FileOutputStream out = new FileOutputStream(file)) {
+            out.write(toJSON().toString().getBytes(StandardCharsets.UTF_8));
+        }
+
+        return file;
+    }
+
+    private static void onReactMarker(ReactMarkerConstants marker, @Nullable String tag) {
+        switch (marker) {
+            case CREATE_REACT_CONTEXT_START:
+                begin("createReactContext");
+                break;
+            case CREATE_REACT_CONTEXT_END:
+                end("createReactContext");
+                break;
+            case PROCESS_PACKAGES_START:
+                begin("processPackages");
+                break;
+            case PROCESS_PACKAGES_END:
+                end("processPackages");
+                break;
+            case NATIVE_MODULE_INITIALIZE_START:
+                begin("nativeModuleInitialize");
+                break;
+            case NATIVE_MODULE_INITIALIZE_END:
+                end("nativeModuleInitialize");
+                break;
+            case RUN_JS_BUNDLE_START:
+                begin("runJSBundle");
+                break;
+            case RUN_JS_BUNDLE_END:
+                end("runJSBundle");
+                break;
+            case CONTENT_APPEARED:
+                mark("contentAppeared");
+                break;
+        }
+    }
+
+    private static void record(String name, long beginTimeNanos, long endTimeNanos) {
+        Entry entry
+            = new Entry(
+                name,
+                toProcessTime(beginTimeNanos),
+                (endTimeNanos - beginTimeNanos) / 1_000_000.0,
+                Thread.currentThread().getName());
+
+        synchronized (timeline) {
+            if (timeline.size() < MAX_ENTRIES) {
+                timeline.add(entry);
+            }
+        }
+    }
+
+    private static double toProcessTime(long elapsedRealtimeNanos) {
+        return elapsedRealtimeNanos / 1_000_000.0 - Process.getStartElapsedRealtime();
+    }
+
+    private static String traceName(String phase) {
+        String name = TRACE_PREFIX + phase;
+
+        return name.length() > MAX_TRACE_NAME_LENGTH ? name.substring(0, MAX_TRACE_NAME_LENGTH) : name;
+    }
+
+    /**
+     * An entry in the timeline. Instant events have a duration of 0.
+     */
+    public static class Entry {
+        /**
+         * The name of the phase or event.
+         */
+        public final String name;
+
+        /**
+         * When the phase began, in milliseconds since the process started.
+         */
+        public final double start;
+
+        /**
+         * How long the phase took, in milliseconds.
+         */
+        public final double duration;
+
+        /**
+         * The name of the thread on which the phase ended.
+         */
+        public final String thread;
+
+        Entry(String name, double start, double duration, String thread) {
+            this.name = name;
+            this.start = start;
+            this.duration = duration;
+            this.thread = thread;
+        }
+    }
+}
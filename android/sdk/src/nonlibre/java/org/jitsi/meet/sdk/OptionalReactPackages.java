@@ -0,0 +1,36 @@
+/*
+ * Copyright @ 2026-present 8x8, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jitsi.meet.sdk;
+
+import com.facebook.react.ReactPackage;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The React Native packages which are only part of the non-LIBRE_BUILD. This
+ * source set is selected at build time in {@code build.gradle}, together with
+ * the dependencies, see the {@code libre} source set for the counterpart.
+ */
+class OptionalReactPackages {
+    static List<ReactPackage> create() {
+        return Arrays.asList(
+            new com.amplitude.reactnative.AmplitudeReactNativePackage(),
+            new com.giphyreactnativesdk.RTNGiphySdkPackage(),
+            new com.reactnativegooglesignin.RNGoogleSigninPackage());
+    }
+}
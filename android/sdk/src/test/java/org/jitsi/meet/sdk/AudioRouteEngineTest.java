@@ -0,0 +1,180 @@
+/*
+ * Copyright @ 2026-present 8x8, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jitsi.meet.sdk;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link AudioRouteEngine} class.
+ */
+public class AudioRouteEngineTest {
+    private static final int MODE = AudioModeModule.VIDEO_CALL;
+
+    /**
+     * Tests that the default policy picks bluetooth, then headphones, then the
+     * speaker, and switches right away.
+     */
+    @Test
+    public void testDefaultPolicy() {
+        AudioRouteEngine engine = new AudioRouteEngine();
+        AudioDevices devices = available(AudioDevices.SPEAKER | AudioDevices.EARPIECE);
+
+        assertEquals(AudioDevices.SPEAKER, engine.decide(MODE, devices, 0));
+
+        devices = devices.withSelected(AudioDevices.SPEAKER)
+            .withAvailable(AudioDevices.SPEAKER | AudioDevices.HEADPHONES, AudioDevices.NONE);
+        assertEquals(AudioDevices.HEADPHONES, engine.decide(MODE, devices, 10));
+
+        devices = devices.withSelected(AudioDevices.HEADPHONES)
+            .withAvailable(AudioDevices.SPEAKER | AudioDevices.HEADPHONES | AudioDevices.BLUETOOTH, AudioDevices.NONE);
+        assertEquals(AudioDevices.BLUETOOTH, engine.decide(MODE, devices, 20));
+        assertEquals(-1, engine.getReevaluateIn());
+    }
+
+    /**
+     * Tests that the priorities are per mode.
+     */
+    @Test
+    public void testPriorities() {
+        AudioRouteEngine engine = new AudioRouteEngine();
+
+        engine.setPolicy(new AudioRoutePolicy.Builder()
+            .setPriorities(AudioModeModule.AUDIO_CALL, AudioDevices.EARPIECE, AudioDevices.SPEAKER)
+            .build());
+
+        AudioDevices devices = available(AudioDevices.SPEAKER | AudioDevices.EARPIECE);
+
+        assertEquals(AudioDevices.EARPIECE, engine.decide(AudioModeModule.AUDIO_CALL, devices, 0));
+        assertEquals(AudioDevices.SPEAKER, engine.decide(AudioModeModule.VIDEO_CALL, devices, 0));
+    }
+
+    /**
+     * Tests that a better device must stay available for the hysteresis before
+     * switching to it.
+     */
+    @Test
+    public void testHysteresis() {
+        AudioRouteEngine engine = new AudioRouteEngine();
+
+        engine.setPolicy(new AudioRoutePolicy.Builder().setHysteresis(1000).build());
+
+        AudioDevices devices = available(AudioDevices.SPEAKER | AudioDevices.BLUETOOTH)
+            .withSelected(AudioDevices.SPEAKER);
+
+        assertEquals(AudioDevices.SPEAKER, engine.decide(MODE, devices, 5000));
+        assertEquals(1000, engine.getReevaluateIn());
+        assertEquals(AudioDevices.SPEAKER, engine.decide(MODE, devices, 5400));
+        assertEquals(600, engine.getReevaluateIn());
+        assertEquals(AudioDevices.BLUETOOTH, engine.decide(MODE, devices, 6000));
+
+        // The device went away and came back, the hysteresis starts over.
+        devices = available(AudioDevices.SPEAKER | AudioDevices.BLUETOOTH)
+            .withSelected(AudioDevices.SPEAKER);
+        engine.decide(MODE, available(AudioDevices.SPEAKER).withSelected(AudioDevices.SPEAKER), 7000);
+        assertEquals(AudioDevices.SPEAKER, engine.decide(MODE, devices, 7500));
+        assertEquals(1000, engine.getReevaluateIn());
+    }
+
+    /**
+     * Tests that a route is kept for the minimum dwell time, unless it's gone.
+     */
+    @Test
+    public void testMinDwellTime() {
+        AudioRouteEngine engine = new AudioRouteEngine();
+
+        engine.setPolicy(new AudioRoutePolicy.Builder().setMinDwellTime(3000).build());
+
+        AudioDevices devices = available(AudioDevices.SPEAKER | AudioDevices.HEADPHONES);
+
+        assertEquals(AudioDevices.HEADPHONES, engine.decide(MODE, devices, 1000));
+
+        devices = devices.withSelected(AudioDevices.HEADPHONES)
+            .withAvailable(AudioDevices.SPEAKER | AudioDevices.HEADPHONES | AudioDevices.BLUETOOTH, AudioDevices.NONE);
+        assertEquals(AudioDevices.HEADPHONES, engine.decide(MODE, devices, 2000));
+        assertEquals(2000, engine.getReevaluateIn());
+        assertEquals(AudioDevices.BLUETOOTH, engine.decide(MODE, devices, 4000));
+
+        // The current route is gone, switch right away.
+        devices = devices.withSelected(AudioDevices.BLUETOOTH)
+            .withAvailable(AudioDevices.SPEAKER | AudioDevices.HEADPHONES, AudioDevices.NONE);
+        assertEquals(AudioDevices.HEADPHONES, engine.decide(MODE, devices, 4100));
+    }
+
+    /**
+     * Tests that a sticky device is not switched away from.
+     */
+    @Test
+    public void testSticky() {
+        AudioRouteEngine engine = new AudioRouteEngine();
+        AudioDevices devices
+            = AudioDevices.EMPTY.withAvailable(
+                    AudioDevices.SPEAKER | AudioDevices.HEADPHONES | AudioDevices.BLUETOOTH,
+                    AudioDevices.HEADPHONES)
+                .withSelected(AudioDevices.HEADPHONES);
+
+        assertEquals(AudioDevices.HEADPHONES, engine.decide(MODE, devices, 0));
+        assertEquals(-1, engine.getReevaluateIn());
+    }
+
+    /**
+     * Tests that the choice of the user applies right away.
+     */
+    @Test
+    public void testUserSelected() {
+        AudioRouteEngine engine = new AudioRouteEngine();
+
+        engine.setPolicy(new AudioRoutePolicy.Builder().setHysteresis(1000).setMinDwellTime(1000).build());
+
+        AudioDevices devices = available(AudioDevices.SPEAKER | AudioDevices.BLUETOOTH)
+            .withSelected(AudioDevices.BLUETOOTH);
+
+        assertEquals(AudioDevices.BLUETOOTH, engine.decide(MODE, devices, 0));
+        assertEquals(
+            AudioDevices.SPEAKER,
+            engine.decide(MODE, devices.withUserSelected(AudioDevices.SPEAKER), 10));
+    }
+
+    /**
+     * Tests that changing the available devices keeps the selection while
+     * the selected device is available.
+     */
+    @Test
+    public void testAvailableDevices() {
+        AudioDevices devices = available(AudioDevices.SPEAKER | AudioDevices.EARPIECE)
+            .withSelected(AudioDevices.SPEAKER)
+            .withUserSelected(AudioDevices.SPEAKER);
+
+        assertSame(devices, devices.withAvailable(AudioDevices.SPEAKER | AudioDevices.EARPIECE, AudioDevices.NONE));
+
+        AudioDevices newDevices
+            = devices.withAvailable(AudioDevices.SPEAKER | AudioDevices.HEADPHONES, AudioDevices.NONE);
+
+        assertEquals(AudioDevices.SPEAKER, newDevices.selected);
+        assertEquals(AudioDevices.NONE, newDevices.userSelected);
+        assertEquals(AudioDevices.SPEAKER, newDevices.getVisible() & AudioDevices.SPEAKER);
+
+        newDevices = newDevices.withAvailable(AudioDevices.HEADPHONES | AudioDevices.EARPIECE, AudioDevices.NONE);
+
+        assertEquals(AudioDevices.NONE, newDevices.selected);
+        assertEquals(AudioDevices.HEADPHONES, newDevices.getVisible());
+    }
+
+    private static AudioDevices available(int devices) {
+        return AudioDevices.EMPTY.withAvailable(devices, AudioDevices.NONE);
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright @ 2026-present 8x8, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jitsi.meet.sdk;
+
+import org.junit.Test;
+
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link AudioTelemetry} class.
+ */
+public class AudioTelemetryTest {
+    /**
+     * Tests that the durations of ended intervals are aggregated.
+     */
+    @Test
+    public void testTimings() {
+        AudioTelemetry telemetry = new AudioTelemetry();
+
+        telemetry.begin(AudioTelemetry.ROUTE_SWITCH, 100);
+        assertEquals(50, telemetry.end(AudioTelemetry.ROUTE_SWITCH, 150));
+
+        // Started over.
+        telemetry.begin(AudioTelemetry.ROUTE_SWITCH, 200);
+        telemetry.begin(AudioTelemetry.ROUTE_SWITCH, 300);
+        assertEquals(250, telemetry.end(AudioTelemetry.ROUTE_SWITCH, 550));
+
+        // Not started over.
+        telemetry.beginIfIdle(AudioTelemetry.FOCUS_LOSS, 1000);
+        telemetry.beginIfIdle(AudioTelemetry.FOCUS_LOSS, 1500);
+        assertEquals(1000, telemetry.end(AudioTelemetry.FOCUS_LOSS, 2000));
+
+        AudioTelemetry.Timing timing = telemetry.getTimings().get(AudioTelemetry.ROUTE_SWITCH);
+
+        assertEquals(2, timing.count);
+        assertEquals(250, timing.last);
+        assertEquals(50, timing.min);
+        assertEquals(250, timing.max);
+        assertEquals(150, timing.getAverage());
+    }
+
+    /**
+     * Tests that intervals which were not begun or were canceled are not
+     * recorded.
+     */
+    @Test
+    public void testNoInterval() {
+        AudioTelemetry telemetry = new AudioTelemetry();
+
+        assertEquals(-1, telemetry.end(AudioTelemetry.MODE_CHANGE, 100));
+
+        telemetry.begin(AudioTelemetry.MODE_CHANGE, 100);
+        telemetry.cancel(AudioTelemetry.MODE_CHANGE);
+        assertEquals(-1, telemetry.end(AudioTelemetry.MODE_CHANGE, 200));
+
+        assertTrue(telemetry.getTimings().isEmpty());
+    }
+
+    /**
+     * Tests the counters and that resetting keeps the ongoing intervals.
+     */
+    @Test
+    public void testCountersAndReset() {
+        AudioTelemetry telemetry = new AudioTelemetry();
+
+        telemetry.increment(AudioTelemetry.SCO_RETRIES);
+        telemetry.increment(AudioTelemetry.SCO_RETRIES);
+        telemetry.increment(AudioTelemetry.ROUTE_FAILURES);
+
+        Map<String, Integer> counters = telemetry.getCounters();
+
+        assertEquals(2, (int) counters.get(AudioTelemetry.SCO_RETRIES));
+        assertEquals(1, (int) counters.get(AudioTelemetry.ROUTE_FAILURES));
+
+        telemetry.begin(AudioTelemetry.SCO_CONNECT, 100);
+        telemetry.reset();
+
+        assertTrue(telemetry.getCounters().isEmpty());
+        assertEquals(400, telemetry.end(AudioTelemetry.SCO_CONNECT, 500));
+    }
+}
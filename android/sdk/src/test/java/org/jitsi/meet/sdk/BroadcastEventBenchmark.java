@@ -0,0 +1,123 @@
+/*
+ * Copyright @ 2026-present 8x8, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jitsi.meet.sdk;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the type resolution of an event round trip: the JS event name
+ * resolved when emitting it, then the Intent action resolved by every
+ * receiver. The linear scans {@link BroadcastEvent.Type} used before are the
+ * baseline. Not run as part of the unit tests, run it with {@link #main}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BroadcastEventBenchmark {
+    /**
+     * The number of receivers of an event, e.g. the activity, the ongoing
+     * conference service and the app.
+     */
+    private static final int RECEIVERS = 3;
+
+    @Param({ "CONFERENCE_BLURRED", "TRANSCRIPTION_CHUNK_RECEIVED", "RECORDING_STATUS_CHANGED" })
+    public String name;
+
+    private String action;
+
+    private String actionName;
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(
+                new OptionsBuilder()
+                    .include(BroadcastEventBenchmark.class.getSimpleName())
+                    .build())
+            .run();
+    }
+
+    @Setup
+    public void setUp() {
+        // Received strings are not the instances the types hold.
+        action = new String(BroadcastEvent.Type.valueOf(name).getAction());
+        actionName = new String(BroadcastAction.Type.SEND_CAMERA_FACING_MODE_MESSAGE.getAction());
+    }
+
+    @Benchmark
+    public void roundTrip(Blackhole blackhole) {
+        blackhole.consume(BroadcastEvent.Type.buildTypeFromName(name));
+
+        for (int i = 0; i < RECEIVERS; i++) {
+            blackhole.consume(BroadcastEvent.Type.buildTypeFromAction(action));
+        }
+        blackhole.consume(BroadcastAction.Type.buildTypeFromAction(actionName));
+    }
+
+    @Benchmark
+    public void linearRoundTrip(Blackhole blackhole) {
+        blackhole.consume(linearTypeFromName(name));
+
+        for (int i = 0; i < RECEIVERS; i++) {
+            blackhole.consume(linearTypeFromAction(action));
+        }
+        blackhole.consume(linearActionTypeFromAction(actionName));
+    }
+
+    private static BroadcastEvent.Type linearTypeFromName(String name) {
+        for (BroadcastEvent.Type type : BroadcastEvent.Type.values()) {
+            if (type.name().equals(name)) {
+                return type;
+            }
+        }
+        return null;
+    }
+
+    private static BroadcastEvent.Type linearTypeFromAction(String action) {
+        for (BroadcastEvent.Type type : BroadcastEvent.Type.values()) {
+            if (type.getAction().equalsIgnoreCase(action)) {
+                return type;
+            }
+        }
+        return null;
+    }
+
+    private static BroadcastAction.Type linearActionTypeFromAction(String action) {
+        for (BroadcastAction.Type type : BroadcastAction.Type.values()) {
+            if (type.getAction().equalsIgnoreCase(action)) {
+                return type;
+            }
+        }
+        return null;
+    }
+}
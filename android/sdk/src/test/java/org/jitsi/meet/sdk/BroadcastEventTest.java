@@ -0,0 +1,67 @@
+/*
+ * Copyright @ 2026-present 8x8, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jitsi.meet.sdk;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for the type resolution of {@link BroadcastEvent} and
+ * {@link BroadcastAction}.
+ */
+public class BroadcastEventTest {
+    /**
+     * Tests that every event type is found by its name and by its action.
+     */
+    @Test
+    public void testEventTypes() {
+        for (BroadcastEvent.Type type : BroadcastEvent.Type.values()) {
+            assertSame(type, BroadcastEvent.Type.buildTypeFromName(type.name()));
+            assertSame(type, BroadcastEvent.Type.buildTypeFromAction(type.getAction()));
+        }
+    }
+
+    /**
+     * Tests that every action type is found by its action.
+     */
+    @Test
+    public void testActionTypes() {
+        for (BroadcastAction.Type type : BroadcastAction.Type.values()) {
+            assertSame(type, BroadcastAction.Type.buildTypeFromAction(type.getAction()));
+        }
+    }
+
+    /**
+     * Tests that actions are matched ignoring the case, and unknown ones not
+     * at all.
+     */
+    @Test
+    public void testUnknownAndCaseInsensitive() {
+        assertSame(
+            BroadcastEvent.Type.TRANSCRIPTION_CHUNK_RECEIVED,
+            BroadcastEvent.Type.buildTypeFromAction("org.jitsi.meet.transcription_chunk_received"));
+        assertSame(
+            BroadcastAction.Type.HANG_UP,
+            BroadcastAction.Type.buildTypeFromAction("ORG.JITSI.MEET.HANG_UP"));
+
+        assertNull(BroadcastEvent.Type.buildTypeFromAction("org.jitsi.meet.UNKNOWN"));
+        assertNull(BroadcastEvent.Type.buildTypeFromAction(null));
+        assertNull(BroadcastEvent.Type.buildTypeFromName("transcription_chunk_received"));
+        assertNull(BroadcastEvent.Type.buildTypeFromName(null));
+        assertNull(BroadcastAction.Type.buildTypeFromAction("org.jitsi.meet.UNKNOWN"));
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright @ 2026-present 8x8, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jitsi.meet.sdk;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares dispatching an event through {@link JitsiMeetEventBus} to the
+ * conversions of the Intent path: every value turned into a string extra,
+ * then the extras turned back into a map by the receiver. The Intent path
+ * also pays for the {@code Bundle} and the main thread hop of
+ * {@code LocalBroadcastManager}, which can only be measured on a device, so
+ * this is its lower bound. Not run as part of the unit tests, run it with
+ * {@link #main}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class JitsiMeetEventBusBenchmark {
+    private BroadcastEvent event;
+    private JitsiMeetEventBus eventBus;
+
+    /**
+     * What the listener last received.
+     */
+    private Object received;
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(
+                new OptionsBuilder()
+                    .include(JitsiMeetEventBusBenchmark.class.getSimpleName())
+                    .build())
+            .run();
+    }
+
+    @Setup
+    public void setUp() {
+        HashMap<String, Object> data = new HashMap<>();
+
+        data.put("senderId", "2a9c0e1f");
+        data.put("message", "Hello, can you hear me?");
+        data.put("isPrivate", false);
+        data.put("timestamp", 1.7605e12);
+        data.put(BroadcastEvent.VIEW_ID, "0b6f8fd6-5a7c-4c55-9d4e-5a0a4dbc31f2");
+
+        event = new BroadcastEvent(BroadcastEvent.Type.CHAT_MESSAGE_RECEIVED, data);
+        eventBus = new JitsiMeetEventBus();
+        eventBus.addListener(
+            new JitsiMeetEventBus.Listener() {
+                @Override
+                public void onEvent(BroadcastEvent event) {
+                    received = event.getData().get("isPrivate");
+                }
+            },
+            new Executor() {
+                @Override
+                public void execute(Runnable command) {
+                    command.run();
+                }
+            },
+            BroadcastEvent.Type.CHAT_MESSAGE_RECEIVED);
+    }
+
+    @Benchmark
+    public void eventBus(Blackhole blackhole) {
+        eventBus.post(event);
+        blackhole.consume(received);
+    }
+
+    @Benchmark
+    public void intentConversions(Blackhole blackhole) {
+        // BroadcastEvent.buildIntent
+        Map<String, String> extras = new HashMap<>();
+
+        for (Map.Entry<String, Object> entry : event.getData().entrySet()) {
+            extras.put(entry.getKey(), entry.getValue().toString());
+        }
+
+        // BroadcastEvent(Intent)
+        HashMap<String, Object> data = new HashMap<>();
+
+        for (String key : extras.keySet()) {
+            data.put(key, extras.get(key));
+        }
+
+        blackhole.consume(Boolean.parseBoolean((String) data.get("isPrivate")));
+    }
+}
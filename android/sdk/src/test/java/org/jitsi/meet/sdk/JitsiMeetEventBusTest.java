@@ -0,0 +1,116 @@
+/*
+ * Copyright @ 2026-present 8x8, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jitsi.meet.sdk;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for the batch delivery of {@link JitsiMeetEventBus}.
+ */
+public class JitsiMeetEventBusTest {
+    private static final Executor DIRECT = new Executor() {
+        @Override
+        public void execute(Runnable command) {
+            command.run();
+        }
+    };
+
+    private static BroadcastEvent event(String message) {
+        HashMap<String, Object> data = new HashMap<>();
+
+        data.put("message", message);
+
+        return new BroadcastEvent(BroadcastEvent.Type.CHAT_MESSAGE_RECEIVED, data);
+    }
+
+    /**
+     * Tests that a batch listener gets a batch at once and a listener gets
+     * its events one by one, in order.
+     */
+    @Test
+    public void testBatch() {
+        JitsiMeetEventBus eventBus = new JitsiMeetEventBus();
+        final List<List<BroadcastEvent>> batches = new ArrayList<>();
+        final List<BroadcastEvent> events = new ArrayList<>();
+
+        eventBus.addBatchListener(
+            new JitsiMeetEventBus.BatchListener() {
+                @Override
+                public void onEvents(List<BroadcastEvent> events) {
+                    batches.add(events);
+                }
+            },
+            DIRECT,
+            BroadcastEvent.Type.CHAT_MESSAGE_RECEIVED);
+        eventBus.addListener(
+            new JitsiMeetEventBus.Listener() {
+                @Override
+                public void onEvent(BroadcastEvent event) {
+                    events.add(event);
+                }
+            },
+            DIRECT,
+            BroadcastEvent.Type.CHAT_MESSAGE_RECEIVED);
+
+        List<BroadcastEvent> batch = Arrays.asList(event("a"), event("b"), event("c"));
+
+        eventBus.post(BroadcastEvent.Type.CHAT_MESSAGE_RECEIVED, batch);
+        eventBus.post(event("d"));
+
+        assertEquals(2, batches.size());
+        assertEquals(batch, batches.get(0));
+        assertEquals(1, batches.get(1).size());
+        assertEquals(4, events.size());
+        assertEquals(batch, events.subList(0, 3));
+        assertEquals("d", events.get(3).getData().get("message"));
+    }
+
+    /**
+     * Tests that a failing event doesn't drop the rest of its batch and that
+     * removed listeners get nothing.
+     */
+    @Test
+    public void testFailureAndRemoval() {
+        JitsiMeetEventBus eventBus = new JitsiMeetEventBus();
+        final List<BroadcastEvent> events = new ArrayList<>();
+        JitsiMeetEventBus.Listener listener = new JitsiMeetEventBus.Listener() {
+            @Override
+            public void onEvent(BroadcastEvent event) {
+                events.add(event);
+                if ("a".equals(event.getData().get("message"))) {
+                    throw new IllegalStateException();
+                }
+            }
+        };
+
+        eventBus.addListener(listener, DIRECT, BroadcastEvent.Type.CHAT_MESSAGE_RECEIVED);
+        eventBus.post(BroadcastEvent.Type.CHAT_MESSAGE_RECEIVED, Arrays.asList(event("a"), event("b")));
+        assertEquals(2, events.size());
+
+        eventBus.removeListener(listener);
+        assertFalse(eventBus.hasListeners(BroadcastEvent.Type.CHAT_MESSAGE_RECEIVED));
+        eventBus.post(event("c"));
+        assertEquals(2, events.size());
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright @ 2026-present 8x8, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jitsi.meet.sdk;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link JsonCodec}.
+ */
+public class JsonCodecTest {
+    /**
+     * Tests reading participants from JSON, unknown fields included.
+     */
+    @Test
+    public void testReadJson() throws IOException {
+        List<ParticipantInfo> participants = JsonCodec.readParticipantInfos(
+            "[{\"participantId\":\"a1\",\"displayName\":\"Alice, A.\",\"isLocal\":true,\"role\":\"moderator\","
+                + "\"avatarUrl\":\"https://example.com/a.png\","
+                + "\"raisedHand\":{\"at\":1}},"
+                + "{\"participantId\":\"b2\",\"displayName\":null,\"isLocal\":false,\"email\":\"b@example.com\"}]");
+
+        assertEquals(2, participants.size());
+        assertEquals("a1", participants.get(0).id);
+        assertEquals("Alice, A.", participants.get(0).displayName);
+        assertTrue(participants.get(0).isLocal);
+        assertEquals("moderator", participants.get(0).role);
+        assertEquals("https://example.com/a.png", participants.get(0).avatarUrl);
+        assertNull(participants.get(1).displayName);
+        assertFalse(participants.get(1).isLocal);
+        assertEquals("b@example.com", participants.get(1).email);
+    }
+
+    /**
+     * Tests reading participants as Intent extras used to hold them, i.e.
+     * the {@code toString()} of the JS data, for simple values.
+     */
+    @Test
+    public void testReadIntentExtra() throws IOException {
+        Map<String, Object> participant = new LinkedHashMap<>();
+
+        participant.put("participantId", "a1");
+        participant.put("displayName", "Alice");
+        participant.put("isLocal", true);
+        participant.put("email", null);
+        participant.put("role", "participant");
+
+        List<ParticipantInfo> participants = JsonCodec.readParticipantInfos(
+            new ArrayList<>(Arrays.asList(participant, new HashMap<String, Object>())).toString());
+
+        assertEquals(2, participants.size());
+        assertEquals("a1", participants.get(0).id);
+        assertTrue(participants.get(0).isLocal);
+        assertNull(participants.get(0).email);
+        assertEquals("participant", participants.get(0).role);
+        assertNull(participants.get(1).id);
+    }
+
+    /**
+     * Tests that written participants are read back as they were.
+     */
+    @Test
+    public void testRoundTrip() throws IOException {
+        ParticipantInfo participant = new ParticipantInfo();
+
+        participant.id = "a1";
+        participant.name = "alice";
+        participant.isLocal = true;
+
+        List<ParticipantInfo> participants
+            = JsonCodec.readParticipantInfos(JsonCodec.toJson(Arrays.asList(participant)));
+
+        assertEquals("a1", participants.get(0).id);
+        assertEquals("alice", participants.get(0).name);
+        assertTrue(participants.get(0).isLocal);
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright @ 2026-present 8x8, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jitsi.meet.sdk;
+
+import com.facebook.react.bridge.JavaOnlyArray;
+import com.facebook.react.bridge.JavaOnlyMap;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link ParticipantRoster}.
+ */
+public class ParticipantRosterTest {
+    private static final String VIEW_ID = "view";
+
+    private final List<ParticipantRoster.Diff> diffs = new ArrayList<>();
+
+    private ParticipantRoster roster;
+
+    private static JavaOnlyMap participant(String id, String displayName) {
+        return JavaOnlyMap.of(
+            "participantId", id,
+            "displayName", displayName,
+            "isLocal", false,
+            BroadcastEvent.VIEW_ID, VIEW_ID);
+    }
+
+    @Before
+    public void setUp() {
+        roster = new ParticipantRoster();
+        roster.addListener(
+            new ParticipantRoster.Listener() {
+                @Override
+                public void onRosterChanged(ParticipantRoster.Diff diff) {
+                    diffs.add(diff);
+                }
+            },
+            new Executor() {
+                @Override
+                public void execute(Runnable command) {
+                    command.run();
+                }
+            });
+    }
+
+    /**
+     * Tests that joins, updates and leaves are kept in the roster and
+     * reported as diffs.
+     */
+    @Test
+    public void testJoinUpdateLeave() {
+        roster.onExternalAPIEvent("PARTICIPANT_JOINED", participant("a", "Alice"));
+        roster.onExternalAPIEvent("PARTICIPANT_JOINED", participant("b", "Bob"));
+        roster.onExternalAPIEvent("PARTICIPANT_UPDATED", participant("a", "Alice B."));
+        roster.onExternalAPIEvent("PARTICIPANT_UPDATED", participant("a", "Alice B."));
+        roster.onExternalAPIEvent("PARTICIPANT_LEFT", participant("b", "Bob"));
+
+        List<ParticipantInfo> participants = roster.getParticipants(VIEW_ID);
+
+        assertEquals(1, participants.size());
+        assertEquals("Alice B.", participants.get(0).displayName);
+        assertSame(participants.get(0), roster.getParticipant(VIEW_ID, "a"));
+        assertEquals(participants, roster.getParticipants());
+
+        // The second, identical, update is no change.
+        assertEquals(4, diffs.size());
+        assertEquals("b", diffs.get(1).joined.get(0).id);
+        assertEquals("Alice B.", diffs.get(2).updated.get(0).displayName);
+        assertEquals("b", diffs.get(3).left.get(0).id);
+    }
+
+    /**
+     * Tests that a reset reports the differences with the previous roster
+     * and that the end of the conference empties it.
+     */
+    @Test
+    public void testResetAndTermination() {
+        roster.onExternalAPIEvent("PARTICIPANT_JOINED", participant("a", "Alice"));
+        roster.onExternalAPIEvent("PARTICIPANT_JOINED", participant("b", "Bob"));
+        diffs.clear();
+
+        roster.onExternalAPIEvent(
+            "PARTICIPANTS_RESET",
+            JavaOnlyMap.of(
+                "participantsInfo", JavaOnlyArray.of(participant("b", "Bobby"), participant("c", "Carol")),
+                BroadcastEvent.VIEW_ID, VIEW_ID));
+
+        assertEquals(1, diffs.size());
+        ParticipantRoster.Diff diff = diffs.get(0);
+        assertEquals("c", diff.joined.get(0).id);
+        assertEquals("Bobby", diff.updated.get(0).displayName);
+        assertEquals("a", diff.left.get(0).id);
+        assertEquals(2, roster.getParticipants(VIEW_ID).size());
+
+        roster.onExternalAPIEvent("CONFERENCE_TERMINATED", JavaOnlyMap.of(BroadcastEvent.VIEW_ID, VIEW_ID));
+
+        assertEquals(2, diffs.get(1).left.size());
+        assertTrue(roster.getParticipants(VIEW_ID).isEmpty());
+        assertTrue(roster.getParticipants().isEmpty());
+    }
+}
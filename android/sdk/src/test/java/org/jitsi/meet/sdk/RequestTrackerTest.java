@@ -0,0 +1,75 @@
+/*
+ * Copyright @ 2026-present 8x8, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jitsi.meet.sdk;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link RequestTracker}.
+ */
+public class RequestTrackerTest {
+    /**
+     * Tests that completed requests are removed and counted.
+     */
+    @Test
+    public void testComplete() {
+        RequestTracker<String> tracker = new RequestTracker<>(4, 1000);
+        String id = tracker.add("a", 0);
+
+        assertEquals(1, tracker.getPending(0));
+        assertEquals("a", tracker.complete(id, 10));
+        assertNull(tracker.complete(id, 20));
+        assertNull(tracker.complete("unknown", 20));
+        assertEquals(0, tracker.getPending(20));
+        assertEquals(1, tracker.getCompleted());
+        assertEquals(0, tracker.getExpired(20));
+    }
+
+    /**
+     * Tests that requests expire after the timeout.
+     */
+    @Test
+    public void testTimeout() {
+        RequestTracker<String> tracker = new RequestTracker<>(4, 1000);
+        String a = tracker.add("a", 0);
+        String b = tracker.add("b", 500);
+
+        assertNull(tracker.complete(a, 1000));
+        assertEquals(1, tracker.getPending(1000));
+        assertEquals("b", tracker.complete(b, 1499));
+        assertEquals(1, tracker.getExpired(1500));
+    }
+
+    /**
+     * Tests that the tracker stays bounded, however many requests are never
+     * answered.
+     */
+    @Test
+    public void testCapacity() {
+        RequestTracker<String> tracker = new RequestTracker<>(4, 1000);
+        String first = tracker.add("first", 0);
+
+        for (int i = 0; i < 100000; i++) {
+            tracker.add("request" + i, 1);
+        }
+
+        assertEquals(4, tracker.getPending(1));
+        assertEquals(100001 - 4, tracker.getExpired(1));
+        assertNull(tracker.complete(first, 1));
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright @ 2026-present 8x8, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jitsi.meet.sdk.log;
+
+import android.util.Log;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link JitsiMeetFileLogHandler}.
+ */
+public class JitsiMeetFileLogHandlerTest {
+    private File directory;
+
+    @Before
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("logs").toFile();
+    }
+
+    @After
+    public void tearDown() {
+        File[] files = directory.listFiles();
+
+        if (files != null) {
+            for (File file : files) {
+                file.delete();
+            }
+        }
+        directory.delete();
+    }
+
+    /**
+     * Tests that the oldest segments are deleted and that the logs of a
+     * conference are exported, even once the segment where it started is
+     * gone.
+     */
+    @Test
+    public void testRotationAndExport() throws IOException {
+        JitsiMeetFileLogHandler handler = new JitsiMeetFileLogHandler(directory, 256, 3);
+
+        handler.doLog(Log.INFO, "tag", "before");
+        handler.onConferenceChanged("https://meet.jit.si/a");
+        for (int i = 0; i < 100; i++) {
+            handler.doLog(Log.DEBUG, "tag", "message " + i);
+        }
+        handler.onConferenceChanged(null);
+        handler.doLog(Log.WARN, "tag", "after");
+
+        assertEquals(3, directory.listFiles().length);
+
+        List<String> lines = export(handler, "https://meet.jit.si/a");
+
+        assertFalse(lines.isEmpty());
+        assertTrue(lines.get(lines.size() - 1).endsWith(" D message 99"));
+        for (String line : lines) {
+            assertFalse(line.endsWith("after"));
+        }
+
+        List<String> all = export(handler, null);
+
+        assertTrue(all.get(all.size() - 1).endsWith(" W after"));
+        assertTrue(all.size() > lines.size());
+    }
+
+    /**
+     * Tests that a new handler keeps the segments of the previous one and
+     * that too long messages are truncated rather than dropped.
+     */
+    @Test
+    public void testRestartAndTruncation() throws IOException {
+        JitsiMeetFileLogHandler handler = new JitsiMeetFileLogHandler(directory, 64, 4);
+
+        handler.doLog(Log.ERROR, "tag", "first run");
+
+        handler = new JitsiMeetFileLogHandler(directory, 64, 4);
+        handler.doLog(Log.INFO, "tag", "second run, with a message which doesn't fit in a segment");
+
+        List<String> lines = export(handler, null);
+
+        assertEquals(2, lines.size());
+        assertTrue(lines.get(0).endsWith(" E first run"));
+        assertTrue(lines.get(1).contains(" I second run"));
+        assertFalse(lines.get(1).endsWith("segment"));
+    }
+
+    private static List<String> export(JitsiMeetFileLogHandler handler, String conference) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        handler.export(conference, out);
+
+        BufferedReader reader = new BufferedReader(new InputStreamReader(
+            new GZIPInputStream(new ByteArrayInputStream(out.toByteArray())), "UTF-8"));
+        List<String> lines = new ArrayList<>();
+        String line;
+
+        while ((line = reader.readLine()) != null) {
+            lines.add(line);
+        }
+
+        return lines;
+    }
+}
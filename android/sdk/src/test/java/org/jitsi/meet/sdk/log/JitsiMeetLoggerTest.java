@@ -0,0 +1,73 @@
+/*
+ * Copyright @ 2026-present 8x8, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jitsi.meet.sdk.log;
+
+import org.junit.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import timber.log.Timber;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link JitsiMeetLogger}.
+ */
+public class JitsiMeetLoggerTest {
+    /**
+     * Tests that the log calls made before a flush are dispatched by the time
+     * it returns, in order.
+     */
+    @Test
+    public void testFlush() {
+        final List<String> messages = new CopyOnWriteArrayList<>();
+        Timber.Tree tree = new Timber.Tree() {
+            @Override
+            protected void log(int priority, String tag, String message, Throwable t) {
+                if (message.startsWith("flush ")) {
+                    messages.add(message);
+                }
+            }
+        };
+
+        // Plants the default handler, which logs to android.util.Log, not
+        // available in unit tests.
+        JitsiMeetLogger.flush();
+
+        List<Timber.Tree> trees = Timber.forest();
+
+        Timber.uprootAll();
+        Timber.plant(tree);
+        try {
+            for (int i = 0; i < 100; i++) {
+                JitsiMeetLogger.i("flush " + i);
+            }
+            JitsiMeetLogger.flush();
+
+            assertEquals(100, messages.size());
+            for (int i = 0; i < 100; i++) {
+                assertEquals("flush " + i, messages.get(i));
+            }
+        } finally {
+            Timber.uproot(tree);
+            for (Timber.Tree t : trees) {
+                Timber.plant(t);
+            }
+        }
+    }
+}
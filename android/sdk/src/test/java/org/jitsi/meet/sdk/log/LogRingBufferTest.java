@@ -0,0 +1,102 @@
+/*
+ * Copyright @ 2026-present 8x8, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jitsi.meet.sdk.log;
+
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link LogRingBuffer}.
+ */
+public class LogRingBufferTest {
+    /**
+     * Tests that a full buffer refuses items, in order, and takes some again
+     * once polled.
+     */
+    @Test
+    public void testBounded() {
+        LogRingBuffer<Integer> buffer = new LogRingBuffer<>(4);
+
+        for (int i = 0; i < 4; i++) {
+            assertTrue(buffer.offer(i));
+        }
+        assertFalse(buffer.offer(4));
+
+        assertEquals(Integer.valueOf(0), buffer.poll());
+        assertTrue(buffer.offer(4));
+
+        for (int i = 1; i <= 4; i++) {
+            assertEquals(Integer.valueOf(i), buffer.poll());
+        }
+        assertNull(buffer.poll());
+        assertTrue(buffer.isEmpty());
+    }
+
+    /**
+     * Tests that every item offered by concurrent producers is polled once,
+     * in the order of its producer.
+     */
+    @Test
+    public void testConcurrentProducers() throws InterruptedException {
+        final int producers = 4;
+        final int items = 100000;
+        final LogRingBuffer<int[]> buffer = new LogRingBuffer<>(256);
+        final AtomicInteger refused = new AtomicInteger();
+        Thread[] threads = new Thread[producers];
+
+        for (int p = 0; p < producers; p++) {
+            final int producer = p;
+
+            threads[p] = new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    for (int i = 0; i < items; i++) {
+                        // Retry, to check the order of every item.
+                        while (!buffer.offer(new int[] { producer, i })) {
+                            refused.incrementAndGet();
+                            Thread.yield();
+                        }
+                    }
+                }
+            });
+            threads[p].start();
+        }
+
+        int[] next = new int[producers];
+        int polled = 0;
+
+        while (polled < producers * items) {
+            int[] item = buffer.poll();
+
+            if (item == null) {
+                Thread.yield();
+                continue;
+            }
+
+            assertEquals(next[item[0]]++, item[1]);
+            polled++;
+        }
+
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertNull(buffer.poll());
+        assertTrue(buffer.isEmpty());
+    }
+}
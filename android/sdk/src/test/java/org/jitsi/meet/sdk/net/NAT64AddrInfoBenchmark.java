@@ -0,0 +1,185 @@
+/*
+ * Copyright @ 2026-present 8x8, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jitsi.meet.sdk.net;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.math.BigInteger;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link NAT64AddrInfo} to the hex string based implementation it
+ * replaced. Not run as part of the unit tests, run it with {@link #main}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class NAT64AddrInfoBenchmark {
+    private static final String IPV4 = "23.17.23.3";
+
+    /**
+     * The prefix and suffix (if any), as hex strings, separated by '/'.
+     */
+    @Param({ "260777000000000400000000/", "1FF2A227B3AA/72A2BB87C8" })
+    public String prefixAndSuffix;
+
+    private byte[] discoveredIPv4;
+    private byte[] discoveredIPv6;
+    private NAT64AddrInfo info;
+    private HexStringNAT64AddrInfo hexStringInfo;
+    private final char[] buffer = new char[NAT64AddrInfo.IPV6_ADDRESS_STRING_LENGTH];
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(
+                new OptionsBuilder()
+                    .include(NAT64AddrInfoBenchmark.class.getSimpleName())
+                    .build())
+            .run();
+    }
+
+    @Setup
+    public void setUp() {
+        String[] parts = prefixAndSuffix.split("/", -1);
+        String prefix = parts[0];
+        String suffix = parts[1];
+        String ipv6 = prefix + "CB007101" + suffix;
+
+        if (suffix.length() > 0) {
+            ipv6 = new StringBuilder(ipv6).insert(16, "00").toString();
+        }
+
+        discoveredIPv4 = NAT64AddrInfo.ipv4AddressStringToBytes("203.0.113.1");
+        discoveredIPv6 = new BigInteger(ipv6, 16).toByteArray();
+        info = NAT64AddrInfo.figureOutNAT64AddrInfo(discoveredIPv4, discoveredIPv6);
+        hexStringInfo = HexStringNAT64AddrInfo.figureOut(discoveredIPv4, discoveredIPv6);
+    }
+
+    @Benchmark
+    public Object figureOut() {
+        return NAT64AddrInfo.figureOutNAT64AddrInfo(discoveredIPv4, discoveredIPv6);
+    }
+
+    @Benchmark
+    public Object figureOutHexString() {
+        return HexStringNAT64AddrInfo.figureOut(discoveredIPv4, discoveredIPv6);
+    }
+
+    @Benchmark
+    public String getIPv6Address() {
+        return info.getIPv6Address(IPV4);
+    }
+
+    @Benchmark
+    public char[] getIPv6AddressIntoBuffer() {
+        info.getIPv6Address(IPV4, buffer, 0);
+
+        return buffer;
+    }
+
+    @Benchmark
+    public String getIPv6AddressHexString() throws UnknownHostException {
+        return hexStringInfo.getIPv6Address(IPV4);
+    }
+
+    /**
+     * The hex string based implementation {@link NAT64AddrInfo} had before.
+     */
+    private static class HexStringNAT64AddrInfo {
+        private final String prefix;
+        private final String suffix;
+
+        private HexStringNAT64AddrInfo(String prefix, String suffix) {
+            this.prefix = prefix;
+            this.suffix = suffix;
+        }
+
+        private static String bytesToHexString(byte[] bytes) {
+            StringBuilder hexStr = new StringBuilder();
+
+            for (byte b : bytes) {
+                hexStr.append(String.format("%02X", b));
+            }
+
+            return hexStr.toString();
+        }
+
+        static HexStringNAT64AddrInfo figureOut(byte[] ipv4AddrBytes, byte[] ipv6AddrBytes) {
+            String ipv6Str = bytesToHexString(ipv6AddrBytes);
+            String ipv4Str = bytesToHexString(ipv4AddrBytes);
+            int prefixLength = 96;
+            int suffixLength = 0;
+            String prefix = null;
+            String suffix = null;
+
+            if (ipv4Str.equalsIgnoreCase(ipv6Str.substring(prefixLength / 4))) {
+                prefix = ipv6Str.substring(0, prefixLength / 4);
+            } else {
+                ipv6Str = ipv6Str.substring(0, 16) + ipv6Str.substring(18);
+
+                for (prefixLength = 64, suffixLength = 6; prefixLength >= 32; ) {
+                    if (ipv4Str.equalsIgnoreCase(
+                            ipv6Str.substring(prefixLength / 4, prefixLength / 4 + 8))) {
+                        prefix = ipv6Str.substring(0, prefixLength / 4);
+                        suffix = ipv6Str.substring(ipv6Str.length() - suffixLength);
+                        break;
+                    }
+
+                    prefixLength -= 8;
+                    suffixLength += 2;
+                }
+            }
+
+            return prefix != null ? new HexStringNAT64AddrInfo(prefix, suffix) : null;
+        }
+
+        String getIPv6Address(String ipv4Address) throws UnknownHostException {
+            byte[] ipv4AddressBytes = InetAddress.getByName(ipv4Address).getAddress();
+            StringBuilder newIPv6Str = new StringBuilder();
+
+            newIPv6Str.append(prefix);
+            newIPv6Str.append(bytesToHexString(ipv4AddressBytes));
+
+            if (suffix != null) {
+                newIPv6Str.insert(16, "00");
+                newIPv6Str.append(suffix);
+            }
+
+            for (int i = 32 - 4; i > 0; i -= 4) {
+                newIPv6Str.insert(i, ":");
+            }
+
+            return newIPv6Str.toString().toUpperCase();
+        }
+    }
+}
@@ -137,6 +137,54 @@ public class NAT64AddrInfoTest {
     public void testInvalidIPv4Format() {
         testInvalidIPv4Format("256.1.2.3");
         testInvalidIPv4Format("FE80:CD00:0000:0CDA:1357:0000:212F:749C");
+        testInvalidIPv4Format("1.2.3");
+        testInvalidIPv4Format("1.2.3.4.5");
+        testInvalidIPv4Format("1..2.3");
+        testInvalidIPv4Format("localhost");
+        testInvalidIPv4Format("");
+    }
+
+    /**
+     * Tests that the allocation free variants produce the same address as
+     * {@link NAT64AddrInfo#getIPv6Address(String)}.
+     */
+    @Test
+    public void testGetIPv6AddressIntoBuffer() {
+        byte[] ipv4Bytes = NAT64AddrInfo.ipv4AddressStringToBytes("97.54.3.23");
+        String ipv6Str = buildIPv6Addr(
+                "1FF2A227B3AA", "72A2BB87C8", NAT64AddrInfo.bytesToHexString(ipv4Bytes));
+        byte[] ipv6Bytes = new BigInteger(ipv6Str, 16).toByteArray();
+        NAT64AddrInfo nat64AddrInfo
+            = NAT64AddrInfo.figureOutNAT64AddrInfo(ipv4Bytes, ipv6Bytes);
+
+        assertNotNull("Failed to figure out NAT64 info", nat64AddrInfo);
+        assertEquals(48, nat64AddrInfo.getPrefixLength());
+
+        char[] buffer = new char[NAT64AddrInfo.IPV6_ADDRESS_STRING_LENGTH + 2];
+        int length = nat64AddrInfo.getIPv6Address("97.54.3.23", buffer, 2);
+
+        assertEquals(NAT64AddrInfo.IPV6_ADDRESS_STRING_LENGTH, length);
+        assertEquals(
+                NAT64AddrInfo.hexStringToIPv6String(ipv6Str),
+                new String(buffer, 2, length));
+
+        byte[] newIPv6Bytes = new byte[16];
+
+        nat64AddrInfo.getIPv6Address(ipv4Bytes, newIPv6Bytes);
+        assertArrayEquals(ipv6Bytes, newIPv6Bytes);
+    }
+
+    /**
+     * Tests that no prefix is found when the IPv4 address is not embedded in
+     * the IPv6 address.
+     */
+    @Test
+    public void testNoPrefix() {
+        byte[] ipv4Bytes = NAT64AddrInfo.ipv4AddressStringToBytes("1.2.3.4");
+        byte[] ipv6Bytes = new BigInteger(
+                "1FF2A227B3AA00000000000000000000", 16).toByteArray();
+
+        assertNull(NAT64AddrInfo.figureOutNAT64AddrInfo(ipv4Bytes, ipv6Bytes));
     }
 
     private void testInvalidIPv4Format(String ipv4Str) {
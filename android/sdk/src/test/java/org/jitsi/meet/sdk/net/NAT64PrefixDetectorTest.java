@@ -0,0 +1,225 @@
+/*
+ * Copyright @ 2026-present 8x8, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jitsi.meet.sdk.net;
+
+import org.junit.Test;
+
+import java.math.BigInteger;
+import java.net.UnknownHostException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link NAT64PrefixDetector} class.
+ */
+public class NAT64PrefixDetectorTest {
+    /**
+     * 192.0.0.170 and 192.0.0.171 in hex.
+     */
+    private static final String WELL_KNOWN_170 = "C00000AA";
+    private static final String WELL_KNOWN_171 = "C00000AB";
+
+    /**
+     * Test case for the well known prefix 64:ff9b::/96, advertised for both
+     * well known addresses.
+     */
+    @Test
+    public void testSinglePrefix()
+        throws UnknownHostException {
+        NAT64PrefixDetector.Result result = detect(
+            1000,
+            "0064FF9B0000000000000000" + WELL_KNOWN_170,
+            "0064FF9B0000000000000000" + WELL_KNOWN_171);
+
+        assertEquals(1, result.infos.size());
+        assertEquals(96, result.getNAT64AddrInfo().getPrefixLength());
+        assertEquals(
+            "0064:FF9B:0000:0000:0000:0000:0102:0304",
+            result.getNAT64AddrInfo().getIPv6Address("1.2.3.4"));
+    }
+
+    /**
+     * Test case for several prefixes of different lengths, which must all be
+     * found, in the order they were advertised.
+     */
+    @Test
+    public void testMultiplePrefixes()
+        throws UnknownHostException {
+        NAT64PrefixDetector.Result result = detect(
+            1000,
+            // /64 with the 'u' octet.
+            "20010DB800010002" + "00" + WELL_KNOWN_170 + "000000",
+            "20010DB800010002" + "00" + WELL_KNOWN_171 + "000000",
+            // /96
+            "20010DB8AAAA000000000000" + WELL_KNOWN_170,
+            // /32
+            "20010DB8" + WELL_KNOWN_171 + "0000000000000000");
+
+        assertEquals(3, result.infos.size());
+        assertEquals(64, result.infos.get(0).getPrefixLength());
+        assertEquals(96, result.infos.get(1).getPrefixLength());
+        assertEquals(32, result.infos.get(2).getPrefixLength());
+        assertEquals(
+            "2001:0DB8:0001:0002:0001:0203:0400:0000",
+            result.infos.get(0).getIPv6Address("1.2.3.4"));
+        assertEquals(
+            "2001:0DB8:AAAA:0000:0000:0000:0102:0304",
+            result.infos.get(1).getIPv6Address("1.2.3.4"));
+        assertEquals(
+            "2001:0DB8:0102:0304:0000:0000:0000:0000",
+            result.infos.get(2).getIPv6Address("1.2.3.4"));
+    }
+
+    /**
+     * Test case for AAAA records which embed none of the well known addresses.
+     */
+    @Test
+    public void testUnrelatedAddresses()
+        throws UnknownHostException {
+        NAT64PrefixDetector.Result result = detect(
+            1000,
+            "20010DB8000000000000000000000001",
+            "20010DB8AAAA000000000000" + WELL_KNOWN_171);
+
+        assertEquals(1, result.infos.size());
+        assertEquals(96, result.getNAT64AddrInfo().getPrefixLength());
+    }
+
+    /**
+     * Test case for a network which is not a NAT64 one.
+     */
+    @Test
+    public void testNoPrefix()
+        throws UnknownHostException {
+        NAT64PrefixDetector.Result result
+            = new NAT64PrefixDetector(resolver(-1)).detect(1000);
+
+        assertTrue(result.infos.isEmpty());
+        assertNull(result.getNAT64AddrInfo());
+        assertEquals(1000 + NAT64PrefixDetector.DEFAULT_TTL, result.expiresAt);
+    }
+
+    /**
+     * Tests that the result expires with the DNS records.
+     */
+    @Test
+    public void testTTL()
+        throws UnknownHostException {
+        NAT64PrefixDetector.Result result = new NAT64PrefixDetector(
+                resolver(300 * 1000, "0064FF9B0000000000000000" + WELL_KNOWN_170))
+            .detect(1000);
+
+        assertFalse(result.isExpired(1000 + 300 * 1000 - 1));
+        assertTrue(result.isExpired(1000 + 300 * 1000));
+    }
+
+    /**
+     * Tests that a prefix from the link properties never expires.
+     */
+    @Test
+    public void testFromPrefix() {
+        NAT64PrefixDetector.Result result
+            = NAT64PrefixDetector.Result.fromPrefix(toIPv6Bytes("0064FF9B000000000000000000000000"), 96);
+
+        assertNotNull(result);
+        assertFalse(result.isExpired(Long.MAX_VALUE - 1));
+        assertEquals(
+            "0064:FF9B:0000:0000:0000:0000:0102:0304",
+            result.getNAT64AddrInfo().getIPv6Address("1.2.3.4"));
+        assertNull(NAT64PrefixDetector.Result.fromPrefix(toIPv6Bytes("0064FF9B000000000000000000000000"), 80));
+    }
+
+    /**
+     * Tests the parsing of a DNS response with a CNAME and two AAAA records,
+     * using name compression.
+     */
+    @Test
+    public void testParseAAAAResponse()
+        throws UnknownHostException {
+        byte[] response = toBytes(
+            // Header: ID, flags, 1 question, 3 answers.
+            "1234" + "8180" + "0001" + "0003" + "0000" + "0000"
+            // Question: ipv4only.arpa AAAA IN.
+            + "08" + "697076346F6E6C79" + "04" + "61727061" + "00" + "001C" + "0001"
+            // CNAME to x.arpa, TTL 600.
+            + "C00C" + "0005" + "0001" + "00000258" + "0004" + "0178" + "C015"
+            // AAAA, TTL 300.
+            + "C00C" + "001C" + "0001" + "0000012C" + "0010"
+            + "0064FF9B0000000000000000" + WELL_KNOWN_170
+            // AAAA, TTL 900.
+            + "C00C" + "001C" + "0001" + "00000384" + "0010"
+            + "20010DB8AAAA000000000000" + WELL_KNOWN_171);
+
+        NAT64PrefixDetector.Answer answer = NetworkResolver.parseAAAAResponse(response);
+
+        assertEquals(2, answer.addresses.size());
+        assertEquals(300 * 1000, answer.ttl);
+        assertArrayEquals(
+            toIPv6Bytes("0064FF9B0000000000000000" + WELL_KNOWN_170),
+            answer.addresses.get(0));
+    }
+
+    @Test
+    public void testParseMalformedResponse() {
+        try {
+            NetworkResolver.parseAAAAResponse(toBytes("1234818000010001"));
+            fail("Did not throw UnknownHostException");
+        } catch (UnknownHostException e) {
+            /* OK */
+        }
+    }
+
+    private static NAT64PrefixDetector.Result detect(long now, String... ipv6Addresses)
+        throws UnknownHostException {
+        return new NAT64PrefixDetector(resolver(-1, ipv6Addresses)).detect(now);
+    }
+
+    /**
+     * Creates a fake resolver which answers with the given addresses.
+     */
+    private static NAT64PrefixDetector.Resolver resolver(final long ttl, String... ipv6Addresses) {
+        final List<byte[]> addresses = new ArrayList<>();
+
+        for (String ipv6Address : ipv6Addresses) {
+            addresses.add(toIPv6Bytes(ipv6Address));
+        }
+
+        return new NAT64PrefixDetector.Resolver() {
+            @Override
+            public NAT64PrefixDetector.Answer resolveAAAA(String host) {
+                assertEquals(NAT64PrefixDetector.HOST, host);
+
+                return new NAT64PrefixDetector.Answer(addresses, ttl);
+            }
+        };
+    }
+
+    private static byte[] toIPv6Bytes(String hex) {
+        assertEquals(32, hex.length());
+
+        return toBytes(hex);
+    }
+
+    private static byte[] toBytes(String hex) {
+        byte[] bytes = new BigInteger("01" + hex, 16).toByteArray();
+
+        // Drop the leading 01 which preserves the leading zeros.
+        return Arrays.copyOfRange(bytes, 1, bytes.length);
+    }
+}
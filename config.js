@@ -226,6 +226,21 @@ var config = {
     //     enableOpusDtx: false,
     // },
 
+    // How the mobile apps pick the audio route (Android only).
+    // audioRoutePolicy: {
+    //     // The devices to use in audio only and video calls, in order of priority.
+    //     // Any of 'BLUETOOTH', 'HEADPHONES', 'EARPIECE' and 'SPEAKER'.
+    //     audioCall: [ 'BLUETOOTH', 'HEADPHONES', 'SPEAKER' ],
+    //     videoCall: [ 'BLUETOOTH', 'HEADPHONES', 'SPEAKER' ],
+    //     // How long (in ms) a better device must stay connected before switching to it.
+    //     hysteresis: 0,
+    //     // How long (in ms) a route is kept before switching automatically to another one.
+    //     minDwellTime: 0,
+    //     // Device types which are not switched away from while connected. Any of
+    //     // 'BLUETOOTH_SCO', 'HEARING_AID', 'USB_HEADSET', 'WIRED_HEADPHONES' and 'WIRED_HEADSET'.
+    //     stickyDevices: [ 'HEARING_AID', 'USB_HEADSET' ],
+    // },
+
     // Noise suppression configuration. By default rnnoise is used. Optionally Krisp
     // can be used by enabling it below, but the Krisp JS SDK files must be supplied in your
     // installation. Specifically, these files are needed:
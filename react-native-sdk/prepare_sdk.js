@@ -176,10 +176,34 @@ fs.copyFileSync(
     `${androidSourcePath}/AudioDeviceHandlerGeneric.java`,
     `${androidTargetPath}/AudioDeviceHandlerGeneric.java`
 );
+fs.copyFileSync(
+    `${androidSourcePath}/AudioDevices.java`,
+    `${androidTargetPath}/AudioDevices.java`
+);
 fs.copyFileSync(
     `${androidSourcePath}/AudioModeModule.java`,
     `${androidTargetPath}/AudioModeModule.java`
 );
+fs.copyFileSync(
+    `${androidSourcePath}/AudioRouteEngine.java`,
+    `${androidTargetPath}/AudioRouteEngine.java`
+);
+fs.copyFileSync(
+    `${androidSourcePath}/AudioRoutePolicy.java`,
+    `${androidTargetPath}/AudioRoutePolicy.java`
+);
+fs.copyFileSync(
+    `${androidSourcePath}/AudioTelemetry.java`,
+    `${androidTargetPath}/AudioTelemetry.java`
+);
+fs.copyFileSync(
+    `${androidSourcePath}/BluetoothScoManager.java`,
+    `${androidTargetPath}/BluetoothScoManager.java`
+);
+fs.copyFileSync(
+    `${androidSourcePath}/CallRegistry.java`,
+    `${androidTargetPath}/CallRegistry.java`
+);
 fs.copyFileSync(
     `${androidSourcePath}/ConnectionService.java`,
     `${androidTargetPath}/ConnectionService.java`
@@ -194,6 +194,13 @@ export interface IConfig {
         opusMaxAverageBitrate?: number | null;
         stereo?: boolean;
     };
+    audioRoutePolicy?: {
+        audioCall?: Array<string>;
+        hysteresis?: number;
+        minDwellTime?: number;
+        stickyDevices?: Array<string>;
+        videoCall?: Array<string>;
+    };
     autoCaptionOnRecord?: boolean;
     autoKnockLobby?: boolean;
     backgroundAlpha?: number;
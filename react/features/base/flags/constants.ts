@@ -72,6 +72,15 @@ export const CONFERENCE_TIMER_ENABLED = 'conference-timer.enabled';
  */
 export const CHAT_ENABLED = 'chat.enabled';
 
+/**
+ * Flag indicating if the high frequency events (chat messages, endpoint text
+ * messages and transcription chunks) should be batched, so that the events of
+ * a type sent within a short window cross over to the native side at once.
+ * Native listeners still get them one by one unless they listen for batches.
+ * Default: disabled (false).
+ */
+export const EVENT_BATCHING_ENABLED = 'event-batching.enabled';
+
 /**
  * Flag indicating if the filmstrip should be enabled.
  * Default: enabled (true).
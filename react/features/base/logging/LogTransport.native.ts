@@ -25,22 +25,100 @@ function stackToString(e: any) {
     return s;
 }
 
+/**
+ * The log levels, in increasing order of severity. {@code log} is an alias of
+ * {@code info}.
+ */
+const LEVELS: { [key: string]: number; } = {
+    trace: 0,
+    debug: 1,
+    info: 2,
+    log: 2,
+    warn: 3,
+    error: 4
+};
+
+/**
+ * The lowest level which is logged, records below it are dropped before they
+ * are formatted. It is configured on the native side, if supported.
+ */
+const MIN_LEVEL = LEVELS[LogBridge.LOG_LEVEL] ?? LEVELS.trace;
+
+/**
+ * The maximum number of records sent to the native side at once.
+ */
+const MAX_BATCH_SIZE = 50;
+
+/**
+ * How long records are held at most, in milliseconds, before they are sent
+ * to the native side.
+ */
+const FLUSH_INTERVAL = 250;
+
+/**
+ * The records waiting to be sent, as [level, timestamp, tag, message].
+ */
+let batch: Array<Array<string>> = [];
+let flushTimeout: ReturnType<typeof setTimeout> | undefined;
+
+/**
+ * Sends the pending records to the native side.
+ *
+ * @returns {void}
+ */
+function flush() {
+    if (flushTimeout !== undefined) {
+        clearTimeout(flushTimeout);
+        flushTimeout = undefined;
+    }
+
+    if (batch.length) {
+        const records = batch;
+
+        batch = [];
+        LogBridge.logBatch(records);
+    }
+}
+
+/**
+ * Sends a record to the native side. Records are batched, unless the native
+ * side doesn't support it. Warnings and errors are sent right away, so that
+ * they aren't lost if the app dies.
+ *
+ * @param {string} logName - The level of the record.
+ * @param {string} timestamp - The timestamp of the record.
+ * @param {string} message - The message of the record.
+ * @returns {void}
+ */
+function send(logName: string, timestamp: string, message: string) {
+    if (typeof LogBridge.logBatch !== 'function') {
+        LogBridge[logName](message);
+
+        return;
+    }
+
+    batch.push([ logName, timestamp, '', message ]);
+
+    if (batch.length >= MAX_BATCH_SIZE || LEVELS[logName] >= LEVELS.warn) {
+        flush();
+    } else if (flushTimeout === undefined) {
+        flushTimeout = setTimeout(flush, FLUSH_INTERVAL);
+    }
+}
+
 /**
  * Constructs a log transport object for use with @jitsi/logger.
  *
  * @returns {Object} - The transport object.
  */
 function buildTransport() {
-    return [
-        'trace',
-        'debug',
-        'info',
-        'log',
-        'warn',
-        'error'
-    ].reduce((logger: any, logName) => {
+    return Object.keys(LEVELS).reduce((logger: any, logName) => {
         logger[logName] = (timestamp: string, ...args: Array<string>) => {
-            // It ignores the timestamp argument, because LogBridge will add it on the native side anyway
+            if (LEVELS[logName] < MIN_LEVEL) {
+                return;
+            }
+
+            // The native side doesn't log the timestamp, it adds its own.
             const nargs = args.map((arg: any) => {
                 if (arg instanceof Error) {
                     const errorBody = {
@@ -58,7 +136,7 @@ function buildTransport() {
             });
             const message = format(...nargs);
 
-            LogBridge[logName](message);
+            send(logName, timestamp, message);
         };
 
         return logger;
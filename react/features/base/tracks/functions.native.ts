@@ -1,3 +1,5 @@
+import { NativeModules } from 'react-native';
+
 import { IStore } from '../../app/types';
 import JitsiMeetJS from '../lib-jitsi-meet';
 
@@ -30,6 +32,10 @@ export function createLocalTracksF(options: ITrackOptions = {}, store: IStore) {
     } = state['features/base/config'];
     const constraints = options.constraints ?? state['features/base/config'].constraints;
 
+    const { StartupTrace } = NativeModules;
+
+    StartupTrace?.begin('getUserMedia');
+
     return JitsiMeetJS.createLocalTracks(
         {
             cameraDeviceId,
@@ -40,5 +46,6 @@ export function createLocalTracksF(options: ITrackOptions = {}, store: IStore) {
             facingMode: options.facingMode || getCameraFacingMode(state),
             micDeviceId,
             resolution
-        });
+        })
+        .finally(() => StartupTrace?.end('getUserMedia'));
 }
@@ -66,6 +66,8 @@ MiddlewareRegistry.register(store => next => action => {
         const { locationURL } = store.getState()['features/base/connection'];
         const location = parseURIString(locationURL?.href ?? '');
 
+        AudioMode.setRoutePolicy?.(action.config.audioRoutePolicy ?? {});
+
         /**
          * Don't touch the current value if there is no room in the URL. This
          * avoids audio cutting off for a moment right after the user leaves
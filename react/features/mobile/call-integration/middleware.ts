@@ -312,6 +312,10 @@ function _conferenceWillJoin({ dispatch, getState }: IStore, next: Function, act
                         { text: 'OK' }
                     ],
                     { cancelable: false });
+            } else if (error.code === 'CALL_ENDED' || error.code === 'START_CALL_SUPERSEDED') {
+                // The call was ended or started again before the system
+                // created it, e.g. when moving between breakout rooms. There's
+                // nothing to fall back from.
             } else {
                 // Some devices fail because the CALL_PHONE permission is not granted, which is
                 // nonsense, because it's not needed for self-managed connections.
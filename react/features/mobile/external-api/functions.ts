@@ -1,11 +1,39 @@
 import { debounce } from 'lodash-es';
 import { NativeModules } from 'react-native';
 
+import { IStore } from '../../app/types';
+import { EVENT_BATCHING_ENABLED } from '../../base/flags/constants';
+import { getFeatureFlag } from '../../base/flags/functions';
 import { IParticipant } from '../../base/participants/types';
 
 import { readyToClose } from './actions';
 
 
+/**
+ * The high frequency events which are batched when
+ * {@code EVENT_BATCHING_ENABLED} is set.
+ */
+const BATCHED_EVENTS = new Set([
+    'CHAT_MESSAGE_RECEIVED',
+    'ENDPOINT_TEXT_MESSAGE_RECEIVED',
+    'TRANSCRIPTION_CHUNK_RECEIVED'
+]);
+
+/**
+ * How long, in milliseconds, the events of a batch are held at most.
+ */
+const BATCH_WINDOW = 100;
+
+/**
+ * The number of events after which a batch is sent right away.
+ */
+const MAX_BATCH_SIZE = 20;
+
+/**
+ * The pending batches, by event name.
+ */
+const eventBatches = new Map<string, { events: Object[]; timeout: ReturnType<typeof setTimeout>; }>();
+
 /**
  * Sends a specific event to the native counterpart of the External API. Native
  * apps may listen to such events via the mechanisms provided by the (native)
@@ -18,7 +46,103 @@ import { readyToClose } from './actions';
  * @returns {void}
  */
 export function sendEvent(store: Object, name: string, data: Object) {
-    NativeModules.ExternalAPI.sendEvent(name, data);
+    const viewId = getViewId(store as IStore);
+    const event = viewId ? {
+        ...data,
+        viewId
+    } : data;
+
+    if (BATCHED_EVENTS.has(name)
+            && NativeModules.ExternalAPI.sendEvents
+            && getFeatureFlag(store as IStore, EVENT_BATCHING_ENABLED, false)) {
+        _batchEvent(name, event);
+
+        return;
+    }
+
+    // Keep the order of the events: e.g. the last chat messages of a
+    // conference must not reach native after its CONFERENCE_TERMINATED.
+    _sendEventBatches();
+
+    NativeModules.ExternalAPI.sendEvent(name, event);
+}
+
+/**
+ * Adds an event to the pending batch of its type, which is sent when full or
+ * at the end of its window.
+ *
+ * @param {string} name - The name of the event.
+ * @param {Object} event - The data of the event.
+ * @returns {void}
+ */
+function _batchEvent(name: string, event: Object) {
+    let batch = eventBatches.get(name);
+
+    if (!batch) {
+        batch = {
+            events: [],
+            timeout: setTimeout(() => _sendEventBatch(name), BATCH_WINDOW)
+        };
+        eventBatches.set(name, batch);
+    }
+
+    batch.events.push(event);
+
+    if (batch.events.length >= MAX_BATCH_SIZE) {
+        _sendEventBatch(name);
+    }
+}
+
+/**
+ * Sends the pending batch of events with the given name.
+ *
+ * @param {string} name - The name of the events.
+ * @returns {void}
+ */
+function _sendEventBatch(name: string) {
+    const batch = eventBatches.get(name);
+
+    if (batch) {
+        eventBatches.delete(name);
+        clearTimeout(batch.timeout);
+        NativeModules.ExternalAPI.sendEvents(name, batch.events);
+    }
+}
+
+/**
+ * Sends all the pending batches of events, oldest first.
+ *
+ * @returns {void}
+ */
+function _sendEventBatches() {
+    for (const name of Array.from(eventBatches.keys())) {
+        _sendEventBatch(name);
+    }
+}
+
+/**
+ * Gets the identifier of the native view (i.e. JitsiMeetView) which renders
+ * the app the given redux store belongs to. Several views may share the same
+ * JavaScript runtime, so it's used to tell their events apart.
+ *
+ * @param {IStore} store - The redux store.
+ * @returns {string|undefined}
+ */
+export function getViewId(store: IStore): string | undefined {
+    return store.getState()['features/base/app'].app?.props?.viewId;
+}
+
+/**
+ * Checks whether an event sent from the native side is meant for the app the
+ * given redux store belongs to. Events which don't target a specific view are
+ * meant for all of them.
+ *
+ * @param {IStore} store - The redux store.
+ * @param {Object} data - The data of the event.
+ * @returns {boolean}
+ */
+export function isEventForView(store: IStore, data?: { viewId?: string; }) {
+    return !data?.viewId || data.viewId === getViewId(store);
 }
 
 /**
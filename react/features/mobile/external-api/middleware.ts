@@ -39,7 +39,7 @@ import { JitsiConferenceEvents, JitsiRecordingConstants } from '../../base/lib-j
 import { SET_AUDIO_MUTED, SET_VIDEO_MUTED } from '../../base/media/actionTypes';
 import { toggleCameraFacingMode } from '../../base/media/actions';
 import { MEDIA_TYPE, VIDEO_TYPE } from '../../base/media/constants';
-import { PARTICIPANT_JOINED, PARTICIPANT_LEFT } from '../../base/participants/actionTypes';
+import { PARTICIPANT_JOINED, PARTICIPANT_LEFT, PARTICIPANT_UPDATED } from '../../base/participants/actionTypes';
 import {
     getLocalParticipant,
     getParticipantById,
@@ -69,7 +69,7 @@ import { isExternalAPIAvailable } from '../react-native-sdk/functions';
 
 import { READY_TO_CLOSE } from './actionTypes';
 import { setParticipantsWithScreenShare } from './actions';
-import { participantToParticipantInfo, sendEvent } from './functions';
+import { isEventForView, participantToParticipantInfo, sendEvent } from './functions';
 import logger from './logger';
 
 /**
@@ -106,6 +106,24 @@ const SCREEN_SHARE_TOGGLED = 'SCREEN_SHARE_TOGGLED';
  */
 const PARTICIPANTS_INFO_RETRIEVED = 'PARTICIPANTS_INFO_RETRIEVED';
 
+/**
+ * Event which will be emitted on the native side with the participant info of
+ * an updated participant.
+ */
+const PARTICIPANT_UPDATED_EVENT = 'PARTICIPANT_UPDATED';
+
+/**
+ * Event which will be emitted on the native side with the participant info
+ * array when a conference is joined, to seed the native participant roster.
+ */
+const PARTICIPANTS_RESET = 'PARTICIPANTS_RESET';
+
+/**
+ * The fields of a participant sent to the native side which may be updated, see
+ * {@code participantToParticipantInfo}.
+ */
+const PARTICIPANT_INFO_FIELDS = [ 'avatarURL', 'displayName', 'email', 'name', 'role' ];
+
 /**
  * Event which will be emitted on the native side to indicate the recording status has changed.
  */
@@ -121,6 +139,13 @@ if (externalAPIEnabled) {
     eventEmitter = new NativeEventEmitter(ExternalAPI);
 }
 
+/**
+ * The native event subscriptions of each app (i.e. redux store), so an app
+ * being unmounted doesn't remove the ones of the other apps sharing the
+ * runtime.
+ */
+const nativeEventSubscriptions = new Map<IStore, Array<{ remove: Function; }>>();
+
 /**
  * Middleware that captures Redux actions and uses the ExternalAPI module to
  * turn them into native events so the application knows about them.
@@ -138,7 +163,7 @@ externalAPIEnabled && MiddlewareRegistry.register(store => next => action => {
         _registerForNativeEvents(store);
         break;
     case APP_WILL_UNMOUNT:
-        _unregisterForNativeEvents();
+        _unregisterForNativeEvents(store);
         break;
     case CONFERENCE_FAILED: {
         const { error, ...data } = action;
@@ -168,6 +193,12 @@ externalAPIEnabled && MiddlewareRegistry.register(store => next => action => {
     case CONFERENCE_JOINED:
         _sendConferenceEvent(store, action);
         _registerForEndpointTextMessages(store);
+        sendEvent(
+            store,
+            PARTICIPANTS_RESET,
+            /* data */ {
+                participantsInfo: _getParticipantsInfo(store)
+            });
         break;
 
     case CONFERENCE_BLURRED:
@@ -282,6 +313,29 @@ externalAPIEnabled && MiddlewareRegistry.register(store => next => action => {
         break;
     }
 
+    case PARTICIPANT_UPDATED: {
+        const { conference } = store.getState()['features/base/conference'];
+        const { id, ...fields } = action.participant;
+
+        // Only the updates of the fields the native side knows about.
+        if (!conference || !PARTICIPANT_INFO_FIELDS.some(field => field in fields)) {
+            break;
+        }
+
+        const participant = getParticipantById(store, id);
+
+        if (!participant || participant.fakeParticipant || isScreenShareParticipantById(store.getState(), id)) {
+            break;
+        }
+
+        sendEvent(
+            store,
+            PARTICIPANT_UPDATED_EVENT,
+            participantToParticipantInfo(participant) /* data */
+        );
+        break;
+    }
+
     case READY_TO_CLOSE:
         sendEvent(store, type, /* data */ {});
         break;
@@ -396,20 +450,30 @@ externalAPIEnabled && StateListenerRegistry.register(
  */
 function _registerForNativeEvents(store: IStore) {
     const { getState, dispatch } = store;
-
-    eventEmitter.addListener(ExternalAPI.HANG_UP, () => {
+    const subscriptions: Array<{ remove: Function; }> = [];
+    const addListener = (eventName: string, listener: Function) => {
+        subscriptions.push(eventEmitter.addListener(eventName, (data: any) => {
+            // Several apps (views) may share this runtime, ignore the events
+            // targeting a different one.
+            isEventForView(store, data) && listener(data);
+        }));
+    };
+
+    nativeEventSubscriptions.set(store, subscriptions);
+
+    addListener(ExternalAPI.HANG_UP, () => {
         dispatch(appNavigate(undefined));
     });
 
-    eventEmitter.addListener(ExternalAPI.SET_AUDIO_MUTED, ({ muted }: any) => {
+    addListener(ExternalAPI.SET_AUDIO_MUTED, ({ muted }: any) => {
         dispatch(muteLocal(muted, MEDIA_TYPE.AUDIO));
     });
 
-    eventEmitter.addListener(ExternalAPI.SET_VIDEO_MUTED, ({ muted }: any) => {
+    addListener(ExternalAPI.SET_VIDEO_MUTED, ({ muted }: any) => {
         dispatch(muteLocal(muted, MEDIA_TYPE.VIDEO));
     });
 
-    eventEmitter.addListener(ExternalAPI.SEND_ENDPOINT_TEXT_MESSAGE, ({ to, message }: any) => {
+    addListener(ExternalAPI.SEND_ENDPOINT_TEXT_MESSAGE, ({ to, message }: any) => {
         const conference = getCurrentConference(getState());
 
         try {
@@ -422,43 +486,31 @@ function _registerForNativeEvents(store: IStore) {
         }
     });
 
-    eventEmitter.addListener(ExternalAPI.TOGGLE_SCREEN_SHARE, ({ enabled }: any) => {
+    addListener(ExternalAPI.TOGGLE_SCREEN_SHARE, ({ enabled }: any) => {
         dispatch(toggleScreensharing(enabled));
     });
 
-    eventEmitter.addListener(ExternalAPI.RETRIEVE_PARTICIPANTS_INFO, ({ requestId }: any) => {
-
-        const participantsInfo = [];
-        const remoteParticipants = getRemoteParticipants(store);
-        const localParticipant = getLocalParticipant(store);
-
-        localParticipant && participantsInfo.push(participantToParticipantInfo(localParticipant));
-        remoteParticipants.forEach(participant => {
-            if (!participant.fakeParticipant) {
-                participantsInfo.push(participantToParticipantInfo(participant));
-            }
-        });
-
+    addListener(ExternalAPI.RETRIEVE_PARTICIPANTS_INFO, ({ requestId }: any) => {
         sendEvent(
             store,
             PARTICIPANTS_INFO_RETRIEVED,
             /* data */ {
-                participantsInfo,
+                participantsInfo: _getParticipantsInfo(store),
                 requestId
             });
     });
 
-    eventEmitter.addListener(ExternalAPI.OPEN_CHAT, ({ to }: any) => {
+    addListener(ExternalAPI.OPEN_CHAT, ({ to }: any) => {
         const participant = getParticipantById(store, to);
 
         dispatch(openChat(participant));
     });
 
-    eventEmitter.addListener(ExternalAPI.CLOSE_CHAT, () => {
+    addListener(ExternalAPI.CLOSE_CHAT, () => {
         dispatch(closeChat());
     });
 
-    eventEmitter.addListener(ExternalAPI.SEND_CHAT_MESSAGE, ({ message, to }: any) => {
+    addListener(ExternalAPI.SEND_CHAT_MESSAGE, ({ message, to }: any) => {
         const participant = getParticipantById(store, to);
 
         if (participant) {
@@ -468,16 +520,16 @@ function _registerForNativeEvents(store: IStore) {
         dispatch(sendMessage(message));
     });
 
-    eventEmitter.addListener(ExternalAPI.SET_CLOSED_CAPTIONS_ENABLED,
+    addListener(ExternalAPI.SET_CLOSED_CAPTIONS_ENABLED,
         ({ enabled, displaySubtitles, language }: any) => {
             dispatch(setRequestingSubtitles(enabled, displaySubtitles, language));
         });
 
-    eventEmitter.addListener(ExternalAPI.TOGGLE_CAMERA, () => {
+    addListener(ExternalAPI.TOGGLE_CAMERA, () => {
         dispatch(toggleCameraFacingMode());
     });
 
-    eventEmitter.addListener(ExternalAPI.SHOW_NOTIFICATION,
+    addListener(ExternalAPI.SHOW_NOTIFICATION,
         ({ appearance, description, timeout, title, uid }: any) => {
             const validTypes = Object.values(NOTIFICATION_TYPE);
             const validTimeouts = Object.values(NOTIFICATION_TIMEOUT_TYPE);
@@ -502,11 +554,11 @@ function _registerForNativeEvents(store: IStore) {
             }, timeout));
         });
 
-    eventEmitter.addListener(ExternalAPI.HIDE_NOTIFICATION, ({ uid }: any) => {
+    addListener(ExternalAPI.HIDE_NOTIFICATION, ({ uid }: any) => {
         dispatch(hideNotification(uid));
     });
 
-    eventEmitter.addListener(ExternalAPI.START_RECORDING, (
+    addListener(ExternalAPI.START_RECORDING, (
             {
                 mode,
                 dropboxToken,
@@ -595,7 +647,7 @@ function _registerForNativeEvents(store: IStore) {
         }
     });
 
-    eventEmitter.addListener(ExternalAPI.STOP_RECORDING, ({ mode, transcription }: any) => {
+    addListener(ExternalAPI.STOP_RECORDING, ({ mode, transcription }: any) => {
         const state = store.getState();
         const conference = getCurrentConference(state);
 
@@ -629,7 +681,7 @@ function _registerForNativeEvents(store: IStore) {
         conference.stopRecording(activeSession.id);
     });
 
-    eventEmitter.addListener(ExternalAPI.OVERWRITE_CONFIG, ({ config }: any) => {
+    addListener(ExternalAPI.OVERWRITE_CONFIG, ({ config }: any) => {
         const whitelistedConfig = getWhitelistedJSON('config', config);
 
         logger.info(`Overwriting config with: ${JSON.stringify(whitelistedConfig)}`);
@@ -637,7 +689,7 @@ function _registerForNativeEvents(store: IStore) {
         dispatch(overwriteConfig(whitelistedConfig));
     });
 
-    eventEmitter.addListener(ExternalAPI.SEND_CAMERA_FACING_MODE_MESSAGE, ({ to, facingMode }: any) => {
+    addListener(ExternalAPI.SEND_CAMERA_FACING_MODE_MESSAGE, ({ to, facingMode }: any) => {
         const conference = getCurrentConference(getState());
 
         if (!to) {
@@ -656,27 +708,36 @@ function _registerForNativeEvents(store: IStore) {
 /**
  * Unregister for events sent from the native side via NativeEventEmitter.
  *
+ * @param {Store} store - The redux store.
  * @private
  * @returns {void}
  */
-function _unregisterForNativeEvents() {
-    eventEmitter.removeAllListeners(ExternalAPI.HANG_UP);
-    eventEmitter.removeAllListeners(ExternalAPI.SET_AUDIO_MUTED);
-    eventEmitter.removeAllListeners(ExternalAPI.SET_VIDEO_MUTED);
-    eventEmitter.removeAllListeners(ExternalAPI.SEND_ENDPOINT_TEXT_MESSAGE);
-    eventEmitter.removeAllListeners(ExternalAPI.TOGGLE_SCREEN_SHARE);
-    eventEmitter.removeAllListeners(ExternalAPI.RETRIEVE_PARTICIPANTS_INFO);
-    eventEmitter.removeAllListeners(ExternalAPI.OPEN_CHAT);
-    eventEmitter.removeAllListeners(ExternalAPI.CLOSE_CHAT);
-    eventEmitter.removeAllListeners(ExternalAPI.SEND_CHAT_MESSAGE);
-    eventEmitter.removeAllListeners(ExternalAPI.SET_CLOSED_CAPTIONS_ENABLED);
-    eventEmitter.removeAllListeners(ExternalAPI.TOGGLE_CAMERA);
-    eventEmitter.removeAllListeners(ExternalAPI.SHOW_NOTIFICATION);
-    eventEmitter.removeAllListeners(ExternalAPI.HIDE_NOTIFICATION);
-    eventEmitter.removeAllListeners(ExternalAPI.START_RECORDING);
-    eventEmitter.removeAllListeners(ExternalAPI.STOP_RECORDING);
-    eventEmitter.removeAllListeners(ExternalAPI.OVERWRITE_CONFIG);
-    eventEmitter.removeAllListeners(ExternalAPI.SEND_CAMERA_FACING_MODE_MESSAGE);
+function _unregisterForNativeEvents(store: IStore) {
+    nativeEventSubscriptions.get(store)?.forEach(subscription => subscription.remove());
+    nativeEventSubscriptions.delete(store);
+}
+
+/**
+ * Gets the participant info of the local participant and of the remote
+ * participants, fake ones excluded.
+ *
+ * @param {Store} store - The redux store.
+ * @private
+ * @returns {Array<Object>}
+ */
+function _getParticipantsInfo(store: IStore) {
+    const participantsInfo = [];
+    const remoteParticipants = getRemoteParticipants(store);
+    const localParticipant = getLocalParticipant(store);
+
+    localParticipant && participantsInfo.push(participantToParticipantInfo(localParticipant));
+    remoteParticipants.forEach(participant => {
+        if (!participant.fakeParticipant) {
+            participantsInfo.push(participantToParticipantInfo(participant));
+        }
+    });
+
+    return participantsInfo;
 }
 
 /**
@@ -12,10 +12,24 @@ import { RTCSessionDescription } from 'react-native-webrtc';
 export function synthesizeIPv6Addresses(sdp) {
     return (
         new Promise(resolve => resolve(_synthesizeIPv6Addresses0(sdp)))
-            .then(({ ips, lines }) =>
-                Promise.all(Array.from(ips.values()))
-                    .then(() => _synthesizeIPv6Addresses1(sdp, ips, lines))
-            ));
+            .then(({ ips, lines }) => {
+                const ip4s = Array.from(ips.keys());
+
+                return _synthesizeIPv6FromIPv4Addresses(ip4s)
+                    .then(ip6s => {
+                        ip4s.forEach((ip, i) => {
+                            const value = ip6s[i];
+
+                            if (!value || value.indexOf(':') === -1 || value === ip) {
+                                ips.delete(ip);
+                            } else {
+                                ips.set(ip, value);
+                            }
+                        });
+
+                        return _synthesizeIPv6Addresses1(sdp, ips, lines);
+                    });
+            }));
 }
 
 /* eslint-disable max-depth */
@@ -59,6 +73,31 @@ const _synthesizeIPv6FromIPv4Address = (function() {
     return ip => Promise.resolve(ip);
 })();
 
+/**
+ * Synthesizes IPv6 addresses from specific IPv4 addresses. Uses a single
+ * native call where supported (NAT64AddrInfo.getIPv6Addresses) rather than one
+ * per address.
+ *
+ * @param {Array<string>} ipv4s - The IPv4 addresses from which IPv6 addresses
+ * are to be synthesized.
+ * @returns {Promise<Array<?string>>} A {@code Promise} which gets resolved with
+ * the IPv6 addresses synthesized from the specified {@code ipv4s}, in the same
+ * order, a falsy value meaning that no IPv6 address could be synthesized.
+ */
+function _synthesizeIPv6FromIPv4Addresses(ipv4s) {
+    if (ipv4s.length === 0) {
+        return Promise.resolve([]);
+    }
+
+    const { NAT64AddrInfo } = NativeModules;
+
+    if (NAT64AddrInfo && typeof NAT64AddrInfo.getIPv6Addresses === 'function') {
+        return NAT64AddrInfo.getIPv6Addresses(ipv4s);
+    }
+
+    return Promise.all(ipv4s.map(ip => _synthesizeIPv6FromIPv4Address(ip)));
+}
+
 /**
  * Begins the asynchronous synthesis of IPv6 addresses.
  *
@@ -68,7 +107,8 @@ const _synthesizeIPv6FromIPv4Address = (function() {
  * @returns {{
  *     ips: Map,
  *     lines: Array
- * }}
+ * }} The IPv4 addresses found in the candidates, as the keys of {@code ips},
+ * and the lines of the session description.
  */
 function _synthesizeIPv6Addresses0(sessionDescription) {
     const sdp = sessionDescription.sdp;
@@ -106,27 +146,9 @@ function _synthesizeIPv6Addresses0(sessionDescription) {
 
                 for (const ip of ip4s) {
                     if (ip.indexOf(':') === -1) {
-                        ips.has(ip)
-                            || ips.set(ip, new Promise((resolve, reject) => {
-                                const v = ips.get(ip);
-
-                                if (v && typeof v === 'string') {
-                                    resolve(v);
-                                } else {
-                                    _synthesizeIPv6FromIPv4Address(ip).then(
-                                        value => {
-                                            if (!value
-                                                    || value.indexOf(':') === -1
-                                                    || value === ips.get(ip)) {
-                                                ips.delete(ip);
-                                            } else {
-                                                ips.set(ip, value);
-                                            }
-                                            resolve(value);
-                                        },
-                                        reject);
-                                }
-                            }));
+                        // The IPv6 address is synthesized later on, for all
+                        // the IPv4 addresses at once.
+                        ips.has(ip) || ips.set(ip, undefined);
                     } else {
                         abort = true;
                         break;